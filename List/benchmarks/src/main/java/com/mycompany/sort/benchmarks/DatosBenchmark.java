@@ -0,0 +1,41 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.DataHandlerConfig;
+import com.mycompany.sort.model.politico.ArenaNodos;
+import com.mycompany.sort.model.politico.Politico;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Estado base compartido por los benchmarks: genera una vez por trial el arreglo de
+ * políticos con el generador de {@link DataHandlerConfig#buildHandlerChain()}.
+ * Cada benchmark concreto copia estos datos a su lista en {@code @Setup(Level.Invocation)},
+ * por lo que el tiempo de copia no forma parte de la medición. Las copias usan {@link #arena},
+ * de modo que tras el calentamiento copiar la lista no genera basura que el recolector tenga
+ * que limpiar durante la invocación siguiente.
+ */
+@State(Scope.Thread)
+public abstract class DatosBenchmark {
+
+    /** Cantidad de elementos a ordenar. */
+    @Param({"1000", "10000"})
+    public int tamanio;
+
+    /** Orden inicial de los datos: "SORTED", "INVERSE" o "RANDOM". */
+    @Param({"SORTED", "INVERSE", "RANDOM"})
+    public String tipo;
+
+    /** Datos generados para el trial actual. */
+    protected Politico[] datos;
+
+    /** Nodos reutilizados por las copias de cada invocación. */
+    protected final ArenaNodos<Politico> arena = new ArenaNodos<>();
+
+    @Setup(Level.Trial)
+    public void generarDatos() {
+        datos = DataHandlerConfig.buildHandlerChain().generateData(tipo, tamanio);
+    }
+}
@@ -0,0 +1,56 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.SortingStrategyListaCircular.SortingStrategyListaCircular;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
+import com.mycompany.sort.model.politico.Politico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las estrategias de ordenamiento para listas enlazadas simples circulares.
+ * Parametrizado por estrategia, tamaño y tipo de datos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ListaCircularBenchmark extends DatosBenchmark {
+
+    /** Nombre de la estrategia tal como aparece en {@link SortingStrategyConfig#buildCircularStrategies()}. */
+    @Param({"BubbleSortingListaCircular", "SelectionSortingListaCircular", "InsertionSortingListaCircular",
+            "MergeSortingListaCircular", "QuickSortingListaCircular", "NaturalMergeSortingListaCircular",
+            "RadixSortingListaCircular", "BottomUpMergeSortingListaCircular",
+            "ThreeWayQuickSortingListaCircular", "IntroSortingListaCircular",
+            "HybridMergeSortingListaCircular",
+            "ArraySortingListaCircular",
+            "CountingSortingListaCircular"})
+    public String estrategia;
+
+    private SortingStrategyListaCircular<Politico> sorter;
+    private ListaEnlazadaSimpleCircular<Politico> original;
+    private ListaEnlazadaSimpleCircular<Politico> lista;
+
+    @Setup(Level.Trial)
+    public void crearEstrategia() {
+        sorter = SortingStrategyConfig.buildCircularStrategies().get(estrategia).get();
+        original = new ListaEnlazadaSimpleCircular<>();
+        for (Politico p : datos) {
+            original.insertarAlFinal(p);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copiarLista() {
+        arena.reiniciar();
+        lista = arena.copiar(original);
+    }
+
+    @Benchmark
+    public ResultadoOrdenamiento ordenar() {
+        return sorter.sort(lista);
+    }
+}
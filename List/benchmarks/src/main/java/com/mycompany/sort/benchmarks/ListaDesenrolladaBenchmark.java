@@ -0,0 +1,49 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.SortingStrategyListaDesenrollada.SortingStrategyListaDesenrollada;
+import com.mycompany.sort.model.politico.ListaEnlazadaDesenrollada;
+import com.mycompany.sort.model.politico.Politico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las estrategias de ordenamiento para listas enlazadas desenrolladas.
+ * Parametrizado por estrategia, tamaño y tipo de datos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ListaDesenrolladaBenchmark extends DatosBenchmark {
+
+    /** Nombre de la estrategia tal como aparece en {@link SortingStrategyConfig#buildUnrolledStrategies()}. */
+    @Param({"InsertionSortingListaDesenrollada", "MergeSortingListaDesenrollada", "QuickSortingListaDesenrollada"})
+    public String estrategia;
+
+    private SortingStrategyListaDesenrollada<Politico> sorter;
+    private ListaEnlazadaDesenrollada<Politico> original;
+    private ListaEnlazadaDesenrollada<Politico> lista;
+
+    @Setup(Level.Trial)
+    public void crearEstrategia() {
+        sorter = SortingStrategyConfig.buildUnrolledStrategies().get(estrategia).get();
+        original = new ListaEnlazadaDesenrollada<>();
+        for (Politico p : datos) {
+            original.insertarAlFinal(p);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copiarLista() {
+        lista = original.copiar();
+    }
+
+    @Benchmark
+    public ResultadoOrdenamiento ordenar() {
+        return sorter.sort(lista);
+    }
+}
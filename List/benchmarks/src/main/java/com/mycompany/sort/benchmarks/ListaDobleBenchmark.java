@@ -0,0 +1,57 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble.SortingStrategyEnlazadaDoble;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.Politico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las estrategias de ordenamiento para listas doblemente enlazadas.
+ * Parametrizado por estrategia, tamaño y tipo de datos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ListaDobleBenchmark extends DatosBenchmark {
+
+    /** Nombre de la estrategia tal como aparece en {@link SortingStrategyConfig#buildDoubleStrategies()}. */
+    @Param({"BubbleSortingListaEnlazadaDoble", "SelectionSortingListaEnlazadaDoble",
+            "InsertionSortingListaEnlazadaDoble", "MergeSortingListaEnlazadaDoble", "QuickSortingListaEnlazadaDoble",
+            "NaturalMergeSortingListaEnlazadaDoble", "ParallelMergeSortingListaEnlazadaDoble",
+            "RadixSortingListaEnlazadaDoble", "BottomUpMergeSortingListaEnlazadaDoble",
+            "ThreeWayQuickSortingListaEnlazadaDoble", "IntroSortingListaEnlazadaDoble",
+            "HybridMergeSortingListaEnlazadaDoble",
+            "ArraySortingListaEnlazadaDoble",
+            "CountingSortingListaEnlazadaDoble"})
+    public String estrategia;
+
+    private SortingStrategyEnlazadaDoble<Politico> sorter;
+    private ListaEnlazadaDoble<Politico> original;
+    private ListaEnlazadaDoble<Politico> lista;
+
+    @Setup(Level.Trial)
+    public void crearEstrategia() {
+        sorter = SortingStrategyConfig.buildDoubleStrategies().get(estrategia).get();
+        original = new ListaEnlazadaDoble<>();
+        for (Politico p : datos) {
+            original.insertarAlFinal(p);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copiarLista() {
+        arena.reiniciar();
+        lista = arena.copiar(original);
+    }
+
+    @Benchmark
+    public ResultadoOrdenamiento ordenar() {
+        return sorter.sort(lista);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.SortingStrategyListaFueraDeHeap.SortingStrategyListaFueraDeHeap;
+import com.mycompany.sort.model.politico.ColumnasPolitico;
+import com.mycompany.sort.model.politico.ListaPoliticoFueraDeHeap;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.Arena;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las estrategias de ordenamiento para listas fuera del heap.
+ * Parametrizado por estrategia, tamaño y tipo de datos. Cada copia se libera antes de crear la
+ * siguiente, así que la memoria nativa usada no crece con las invocaciones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ListaFueraDeHeapBenchmark extends DatosBenchmark {
+
+    /** Nombre de la estrategia tal como aparece en {@link SortingStrategyConfig#buildOffHeapStrategies()}. */
+    @Param({"MergeSortingListaFueraDeHeap"})
+    public String estrategia;
+
+    private SortingStrategyListaFueraDeHeap sorter;
+    private ListaPoliticoFueraDeHeap original;
+    private ListaPoliticoFueraDeHeap lista;
+
+    @Setup(Level.Trial)
+    public void crearEstrategia() {
+        sorter = SortingStrategyConfig.buildOffHeapStrategies().get(estrategia).get();
+        original = ListaPoliticoFueraDeHeap.desde(ColumnasPolitico.desde(datos), Arena.ofAuto());
+    }
+
+    @Setup(Level.Invocation)
+    public void copiarLista() {
+        liberarCopia();
+        lista = original.copiar();
+    }
+
+    @TearDown(Level.Trial)
+    public void liberarCopia() {
+        if (lista != null) {
+            lista.close();
+            lista = null;
+        }
+    }
+
+    @Benchmark
+    public ResultadoOrdenamiento ordenar() {
+        return sorter.sort(lista);
+    }
+}
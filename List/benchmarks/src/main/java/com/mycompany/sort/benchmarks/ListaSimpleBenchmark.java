@@ -0,0 +1,56 @@
+package com.mycompany.sort.benchmarks;
+
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.SortingStrategy.SortingStrategy;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
+import com.mycompany.sort.model.politico.Politico;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las estrategias de ordenamiento para listas enlazadas simples.
+ * Parametrizado por estrategia, tamaño y tipo de datos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ListaSimpleBenchmark extends DatosBenchmark {
+
+    /** Nombre de la estrategia tal como aparece en {@link SortingStrategyConfig#buildSimpleStrategies()}. */
+    @Param({"BubbleSortingStrategy", "SelectionSortingStrategy", "InsertionSortingStrategy",
+            "MergeSortingStrategy", "QuickSortingStrategy", "NaturalMergeSortingStrategy",
+            "RadixSortingStrategy", "BottomUpMergeSortingStrategy",
+            "ThreeWayQuickSortingStrategy", "IntroSortingStrategy",
+            "HybridMergeSortingStrategy",
+            "ArraySortingStrategy",
+            "CountingSortingStrategy"})
+    public String estrategia;
+
+    private SortingStrategy<Politico> sorter;
+    private ListaEnlazadaSimple<Politico> original;
+    private ListaEnlazadaSimple<Politico> lista;
+
+    @Setup(Level.Trial)
+    public void crearEstrategia() {
+        sorter = SortingStrategyConfig.buildSimpleStrategies().get(estrategia).get();
+        original = new ListaEnlazadaSimple<>();
+        for (Politico p : datos) {
+            original.insertarAlFinal(p);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copiarLista() {
+        arena.reiniciar();
+        lista = arena.copiar(original);
+    }
+
+    @Benchmark
+    public ResultadoOrdenamiento ordenar() {
+        return sorter.sort(lista);
+    }
+}
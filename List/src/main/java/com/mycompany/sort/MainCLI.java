@@ -0,0 +1,299 @@
+package com.mycompany.sort;
+
+import com.mycompany.sort.config.SimulacionConfig;
+import com.mycompany.sort.controller.SortingController;
+import com.mycompany.sort.export.EscritorCSV;
+import com.mycompany.sort.export.EscritorPDF;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Punto de entrada de línea de comandos para ejecutar la matriz de ordenamiento sin interfaz gráfica.
+ * No carga ninguna clase de AWT/Swing, por lo que funciona en servidores sin pantalla.
+ * <p>
+ * Ejemplo:
+ * <pre>
+ * java -cp List.jar com.mycompany.sort.MainCLI --tamanios 1000,10000 --tipos RANDOM \
+ *      --listas simple,doble --estrategias Merge,Quick --hilos 4 --formato json --salida resultados.json
+ * </pre>
+ * Con {@code --barrer-umbral 8,16,24,32} en lugar de la matriz se miden las estrategias híbridas
+ * de inserción y fusión con cada umbral, y el mejor umbral de cada lista se informa por la salida
+ * de error.
+ * Los mensajes de progreso del controlador se envían a la salida de error para que la salida
+ * estándar contenga solo el CSV, JSON o PDF. El CSV y el PDF se escriben a medida que termina cada
+ * celda, por lo que con varios hilos las filas siguen el orden de finalización; el JSON se escribe al final.
+ */
+public class MainCLI {
+
+    private static final String USO = String.join("\n",
+            "Uso: MainCLI [opciones]",
+            "  --tamanios N[,N...]       Tamaños de datos a simular (por defecto 1000)",
+            "  --tipos T[,T...]          SORTED, INVERSE, RANDOM (por defecto todos)",
+            "  --listas L[,L...]         simple, doble, circular, desenrollada, fueradeheap (por defecto todas)",
+            "  --estrategias E[,E...]    Fragmentos del nombre de la estrategia (por defecto todas)",
+            "  --hilos N                 Hilos para ejecutar las celdas en paralelo (por defecto 1)",
+            "  --calentamiento N         Ejecuciones descartadas por celda antes de medir (por defecto 0)",
+            "  --mediciones N            Ejecuciones medidas por celda (por defecto 1)",
+            "  --formato csv|json|pdf    Formato de salida (por defecto csv)",
+            "  --salida RUTA             Archivo de salida (por defecto la salida estándar)",
+            "  --anexar                  Añade las filas CSV al final de --salida sin repetir el encabezado",
+            "  --gzip                    Comprime la salida con gzip",
+            "  --barrer-umbral U[,U...]  Mide el merge híbrido con cada umbral de inserción e informa el mejor",
+            "  --ayuda                   Muestra este mensaje");
+
+    public static void main(String[] args) {
+        PrintStream salidaEstandar = System.out;
+        try {
+            Opciones opciones = Opciones.parsear(args);
+            if (opciones.ayuda) {
+                salidaEstandar.println(USO);
+                return;
+            }
+
+            // El controlador informa el progreso por System.out; se desvía a stderr.
+            System.setOut(System.err);
+
+            SortingController controller = new SortingController();
+            if ("csv".equals(opciones.formato)) {
+                try (EscritorCSV csv = abrirCSV(opciones, salidaEstandar)) {
+                    for (int tamanio : opciones.tamanios) {
+                        ejecutar(controller, opciones, tamanio, csv);
+                    }
+                }
+                return;
+            }
+            if ("pdf".equals(opciones.formato)) {
+                try (EscritorPDF pdf = new EscritorPDF(abrirSalida(opciones, salidaEstandar), "Reporte de Ordenamiento")) {
+                    for (int tamanio : opciones.tamanios) {
+                        ejecutar(controller, opciones, tamanio, pdf);
+                    }
+                }
+                return;
+            }
+
+            List<ResultadoOrdenamiento> resultados = new ArrayList<>();
+            for (int tamanio : opciones.tamanios) {
+                ejecutar(controller, opciones, tamanio, resultado -> { });
+                resultados.addAll(controller.getResultados());
+            }
+
+            try (OutputStream os = abrirSalida(opciones, salidaEstandar)) {
+                escribirJSON(resultados, os);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error escribiendo resultados: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            System.setOut(salidaEstandar);
+        }
+    }
+
+    /**
+     * Ejecuta la simulación de un tamaño o, con --barrer-umbral, el barrido de umbrales híbridos,
+     * informando el mejor umbral de cada lista por la salida de error.
+     */
+    private static void ejecutar(SortingController controller, Opciones opciones, int tamanio,
+                                 Consumer<ResultadoOrdenamiento> oyente) {
+        if (opciones.umbrales == null) {
+            controller.ejecutarSimulacion(tamanio, opciones.config, oyente);
+            return;
+        }
+        controller.barrerUmbralHibrido(tamanio, opciones.umbrales, opciones.config, oyente)
+                .forEach((tipoLista, umbral) -> System.err.println(
+                        "Mejor umbral de inserción para la lista " + tipoLista + " (tamaño " + tamanio + "): " + umbral));
+    }
+
+    /**
+     * Abre el destino CSV: el archivo de --salida a través de {@link EscritorCSV#abrir}, o la salida estándar.
+     */
+    private static EscritorCSV abrirCSV(Opciones opciones, PrintStream salidaEstandar) throws IOException {
+        if (opciones.salida != null) {
+            return EscritorCSV.abrir(Paths.get(opciones.salida), opciones.anexar, opciones.gzip);
+        }
+        return new EscritorCSV(new OutputStreamWriter(abrirSalida(opciones, salidaEstandar), StandardCharsets.UTF_8), true);
+    }
+
+    private static OutputStream abrirSalida(Opciones opciones, PrintStream salidaEstandar) throws IOException {
+        OutputStream salida = opciones.salida != null ? new FileOutputStream(opciones.salida) : salidaEstandar;
+        return opciones.gzip ? new GZIPOutputStream(salida) : salida;
+    }
+
+    private static void escribirJSON(List<ResultadoOrdenamiento> resultados, OutputStream destino) {
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(destino, StandardCharsets.UTF_8));
+        out.print("[\n");
+        for (int i = 0; i < resultados.size(); i++) {
+            ResultadoOrdenamiento r = resultados.get(i);
+            out.print(String.format(Locale.ROOT,
+                    "  {\"tipo\": \"%s\", \"tamanio\": %d, \"estrategia\": \"%s\", \"tiempoMs\": %.3f, \"iteraciones\": %d, "
+                            + "\"mediciones\": %d, \"minMs\": %.3f, \"mediaMs\": %.3f, \"medianaMs\": %.3f, "
+                            + "\"p90Ms\": %.3f, \"p99Ms\": %.3f, \"desviacionMs\": %.3f, "
+                            + "\"bytesAsignados\": %d, \"gcColecciones\": %d, \"gcPausaMs\": %d, "
+                            + "\"pasadas\": %d, \"movimientos\": %d, \"respaldos\": %d}%s\n",
+                    escaparJSON(r.getType()),
+                    r.getSize(),
+                    escaparJSON(r.getStrategy()),
+                    r.getTimeElapsedMillis(),
+                    r.getIterations(),
+                    r.getMediciones(),
+                    r.getMinMillis(),
+                    r.getMediaMillis(),
+                    r.getMedianaMillis(),
+                    r.getP90Millis(),
+                    r.getP99Millis(),
+                    r.getDesviacionMillis(),
+                    r.getBytesAsignados(),
+                    r.getGcColecciones(),
+                    r.getGcPausaMillis(),
+                    r.getPasadas(),
+                    r.getMovimientos(),
+                    r.getRespaldos(),
+                    i < resultados.size() - 1 ? "," : ""));
+        }
+        out.print("]\n");
+        out.flush();
+    }
+
+    private static String escaparJSON(String texto) {
+        return texto.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Opciones de línea de comandos ya validadas.
+     */
+    private static class Opciones {
+        private final SimulacionConfig config = new SimulacionConfig();
+        private int[] tamanios = {1000};
+        private String formato = "csv";
+        private String salida;
+        private boolean ayuda;
+        private boolean anexar;
+        private boolean gzip;
+        private int[] umbrales;
+
+        static Opciones parsear(String[] args) {
+            Opciones opciones = new Opciones();
+            for (int i = 0; i < args.length; i++) {
+                String opcion = args[i];
+                if ("--ayuda".equals(opcion) || "-h".equals(opcion)) {
+                    opciones.ayuda = true;
+                    continue;
+                }
+                if ("--anexar".equals(opcion)) {
+                    opciones.anexar = true;
+                    continue;
+                }
+                if ("--gzip".equals(opcion)) {
+                    opciones.gzip = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Falta el valor de " + opcion);
+                }
+                String valor = args[++i];
+                switch (opcion) {
+                    case "--tamanios":
+                        opciones.tamanios = parsearEnteros(valor);
+                        break;
+                    case "--tipos":
+                        opciones.config.setTiposDatos(separar(valor));
+                        break;
+                    case "--listas":
+                        opciones.config.setTiposLista(separar(valor));
+                        break;
+                    case "--estrategias":
+                        opciones.config.setFiltrosEstrategia(separar(valor));
+                        break;
+                    case "--hilos":
+                        opciones.config.setHilos(parsearEnteroPositivo(valor));
+                        break;
+                    case "--calentamiento":
+                        opciones.config.setCalentamiento(parsearEnteroNoNegativo(valor));
+                        break;
+                    case "--mediciones":
+                        opciones.config.setMediciones(parsearEnteroPositivo(valor));
+                        break;
+                    case "--formato":
+                        opciones.formato = valor.toLowerCase(Locale.ROOT);
+                        if (!"csv".equals(opciones.formato) && !"json".equals(opciones.formato)
+                                && !"pdf".equals(opciones.formato)) {
+                            throw new IllegalArgumentException("Formato no soportado: " + valor);
+                        }
+                        break;
+                    case "--salida":
+                        opciones.salida = valor;
+                        break;
+                    case "--barrer-umbral":
+                        opciones.umbrales = parsearEnteros(valor);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + opcion);
+                }
+            }
+            if (opciones.anexar && (opciones.salida == null || !"csv".equals(opciones.formato))) {
+                throw new IllegalArgumentException("--anexar requiere --salida y formato csv");
+            }
+            return opciones;
+        }
+
+        private static List<String> separar(String valor) {
+            return Arrays.asList(valor.split(","));
+        }
+
+        private static int parsearEnteroNoNegativo(String valor) {
+            try {
+                int n = Integer.parseInt(valor.trim());
+                if (n < 0) {
+                    throw new IllegalArgumentException("Se esperaba un entero no negativo: " + n);
+                }
+                return n;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Número inválido: " + valor);
+            }
+        }
+
+        private static int parsearEnteroPositivo(String valor) {
+            try {
+                int n = Integer.parseInt(valor.trim());
+                if (n <= 0) {
+                    throw new IllegalArgumentException("Se esperaba un entero mayor que 0: " + n);
+                }
+                return n;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Número inválido: " + valor);
+            }
+        }
+
+        private static int[] parsearEnteros(String valor) {
+            try {
+                int[] numeros = Arrays.stream(valor.split(",")).mapToInt(v -> Integer.parseInt(v.trim())).toArray();
+                for (int n : numeros) {
+                    if (n <= 0) {
+                        throw new IllegalArgumentException("Se esperaba un entero mayor que 0: " + n);
+                    }
+                }
+                return numeros;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Número inválido: " + valor);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.mycompany.sort.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Parámetros de una simulación: qué tipos de datos, qué tipos de lista y qué estrategias
+ * se ejecutan, con cuántos hilos y cuántas repeticiones por celda. Los valores por defecto
+ * reproducen la simulación completa secuencial de la interfaz gráfica (una sola ejecución).
+ */
+public class SimulacionConfig {
+
+    /** Tipos de datos soportados por la cadena de generadores. */
+    public static final List<String> TIPOS_DATOS = List.of("SORTED", "INVERSE", "RANDOM");
+
+    /** Tipos de lista soportados por el controlador. */
+    public static final List<String> TIPOS_LISTA = List.of("simple", "doble", "circular", "desenrollada", "fueradeheap");
+
+    private List<String> tiposDatos = TIPOS_DATOS;
+    private List<String> tiposLista = TIPOS_LISTA;
+    private List<String> filtrosEstrategia = List.of();
+    private int hilos = 1;
+    private int calentamiento = 0;
+    private int mediciones = 1;
+
+    public List<String> getTiposDatos() { return tiposDatos; }
+
+    /**
+     * @param tiposDatos Tipos de datos a generar ("SORTED", "INVERSE", "RANDOM")
+     * @throws IllegalArgumentException si algún tipo no está soportado
+     */
+    public void setTiposDatos(List<String> tiposDatos) {
+        List<String> normalizados = new ArrayList<>();
+        for (String tipo : tiposDatos) {
+            String valor = tipo.trim().toUpperCase(Locale.ROOT);
+            if (!TIPOS_DATOS.contains(valor)) {
+                throw new IllegalArgumentException("Tipo de datos no soportado: " + tipo);
+            }
+            normalizados.add(valor);
+        }
+        this.tiposDatos = List.copyOf(normalizados);
+    }
+
+    public List<String> getTiposLista() { return tiposLista; }
+
+    /**
+     * @param tiposLista Tipos de lista a ordenar ("simple", "doble", "circular", "desenrollada",
+     *                   "fueradeheap")
+     * @throws IllegalArgumentException si algún tipo no está soportado
+     */
+    public void setTiposLista(List<String> tiposLista) {
+        List<String> normalizados = new ArrayList<>();
+        for (String lista : tiposLista) {
+            String valor = lista.trim().toLowerCase(Locale.ROOT);
+            if (!TIPOS_LISTA.contains(valor)) {
+                throw new IllegalArgumentException("Tipo de lista no soportado: " + lista);
+            }
+            normalizados.add(valor);
+        }
+        this.tiposLista = List.copyOf(normalizados);
+    }
+
+    public List<String> getFiltrosEstrategia() { return filtrosEstrategia; }
+
+    /**
+     * @param filtrosEstrategia Fragmentos de nombre de estrategia (sin distinguir mayúsculas);
+     *                          una lista vacía selecciona todas las estrategias
+     */
+    public void setFiltrosEstrategia(List<String> filtrosEstrategia) {
+        List<String> normalizados = new ArrayList<>();
+        for (String filtro : filtrosEstrategia) {
+            normalizados.add(filtro.trim().toLowerCase(Locale.ROOT));
+        }
+        this.filtrosEstrategia = List.copyOf(normalizados);
+    }
+
+    public int getHilos() { return hilos; }
+
+    /**
+     * @param hilos Cantidad de hilos; con 1 o menos la simulación es secuencial
+     */
+    public void setHilos(int hilos) {
+        this.hilos = hilos;
+    }
+
+    public int getCalentamiento() { return calentamiento; }
+
+    /**
+     * @param calentamiento Ejecuciones previas por celda cuyo resultado se descarta (0 o más)
+     * @throws IllegalArgumentException si el valor es negativo
+     */
+    public void setCalentamiento(int calentamiento) {
+        if (calentamiento < 0) {
+            throw new IllegalArgumentException("El calentamiento no puede ser negativo");
+        }
+        this.calentamiento = calentamiento;
+    }
+
+    public int getMediciones() { return mediciones; }
+
+    /**
+     * @param mediciones Ejecuciones medidas por celda que se resumen en las estadísticas (1 o más)
+     * @throws IllegalArgumentException si el valor es menor que 1
+     */
+    public void setMediciones(int mediciones) {
+        if (mediciones < 1) {
+            throw new IllegalArgumentException("Se necesita al menos una medición");
+        }
+        this.mediciones = mediciones;
+    }
+
+    /**
+     * Indica si el tipo de lista forma parte de la simulación.
+     *
+     * @param tipoLista "simple", "doble", "circular", "desenrollada" o "fueradeheap"
+     * @return {@code true} si la lista está seleccionada
+     */
+    public boolean incluyeLista(String tipoLista) {
+        return tiposLista.contains(tipoLista);
+    }
+
+    /**
+     * Indica si la estrategia pasa los filtros configurados.
+     *
+     * @param nombreEstrategia Nombre simple de la clase de la estrategia
+     * @return {@code true} si no hay filtros o si el nombre contiene alguno de ellos
+     */
+    public boolean incluyeEstrategia(String nombreEstrategia) {
+        Objects.requireNonNull(nombreEstrategia);
+        if (filtrosEstrategia.isEmpty()) {
+            return true;
+        }
+        String nombre = nombreEstrategia.toLowerCase(Locale.ROOT);
+        for (String filtro : filtrosEstrategia) {
+            if (nombre.contains(filtro)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.sort.config;
+
+import com.mycompany.sort.model.SortingStrategy.*;
+import com.mycompany.sort.model.SortingStrategyListaCircular.*;
+import com.mycompany.sort.model.SortingStrategyListaDesenrollada.*;
+import com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble.*;
+import com.mycompany.sort.model.SortingStrategyListaFueraDeHeap.*;
+import com.mycompany.sort.model.politico.Politico;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registro central de las estrategias de ordenamiento disponibles para cada tipo de lista.
+ * Cada entrada asocia el nombre simple de la clase con una fábrica que crea una instancia nueva,
+ * de modo que el controlador y los benchmarks usen exactamente el mismo catálogo.
+ */
+public class SortingStrategyConfig {
+
+    public static Map<String, Supplier<SortingStrategy<Politico>>> buildSimpleStrategies() {
+        Map<String, Supplier<SortingStrategy<Politico>>> estrategias = new LinkedHashMap<>();
+        estrategias.put("BubbleSortingStrategy", BubbleSortingStrategy::new);
+        estrategias.put("SelectionSortingStrategy", SelectionSortingStrategy::new);
+        estrategias.put("InsertionSortingStrategy", InsertionSortingStrategy::new);
+        estrategias.put("MergeSortingStrategy", MergeSortingStrategy::new);
+        estrategias.put("NaturalMergeSortingStrategy", NaturalMergeSortingStrategy::new);
+        estrategias.put("BottomUpMergeSortingStrategy", BottomUpMergeSortingStrategy::new);
+        estrategias.put("HybridMergeSortingStrategy", HybridMergeSortingStrategy::new);
+        estrategias.put("ArraySortingStrategy", ArraySortingStrategy::new);
+        estrategias.put("CountingSortingStrategy", () -> new CountingSortingStrategy<>(Politico::getDinero));
+        estrategias.put("RadixSortingStrategy", () -> new RadixSortingStrategy<>(Politico::getDinero));
+        estrategias.put("QuickSortingStrategy", QuickSortingStrategy::new);
+        estrategias.put("ThreeWayQuickSortingStrategy", ThreeWayQuickSortingStrategy::new);
+        estrategias.put("IntroSortingStrategy", IntroSortingStrategy::new);
+        return estrategias;
+    }
+
+    public static Map<String, Supplier<SortingStrategyEnlazadaDoble<Politico>>> buildDoubleStrategies() {
+        Map<String, Supplier<SortingStrategyEnlazadaDoble<Politico>>> estrategias = new LinkedHashMap<>();
+        estrategias.put("BubbleSortingListaEnlazadaDoble", BubbleSortingListaEnlazadaDoble::new);
+        estrategias.put("SelectionSortingListaEnlazadaDoble", SelectionSortingListaEnlazadaDoble::new);
+        estrategias.put("InsertionSortingListaEnlazadaDoble", InsertionSortingListaEnlazadaDoble::new);
+        estrategias.put("MergeSortingListaEnlazadaDoble", MergeSortingListaEnlazadaDoble::new);
+        estrategias.put("NaturalMergeSortingListaEnlazadaDoble", NaturalMergeSortingListaEnlazadaDoble::new);
+        estrategias.put("ParallelMergeSortingListaEnlazadaDoble", ParallelMergeSortingListaEnlazadaDoble::new);
+        estrategias.put("BottomUpMergeSortingListaEnlazadaDoble", BottomUpMergeSortingListaEnlazadaDoble::new);
+        estrategias.put("HybridMergeSortingListaEnlazadaDoble", HybridMergeSortingListaEnlazadaDoble::new);
+        estrategias.put("ArraySortingListaEnlazadaDoble", ArraySortingListaEnlazadaDoble::new);
+        estrategias.put("CountingSortingListaEnlazadaDoble", () -> new CountingSortingListaEnlazadaDoble<>(Politico::getDinero));
+        estrategias.put("RadixSortingListaEnlazadaDoble", () -> new RadixSortingListaEnlazadaDoble<>(Politico::getDinero));
+        estrategias.put("QuickSortingListaEnlazadaDoble", QuickSortingListaEnlazadaDoble::new);
+        estrategias.put("ThreeWayQuickSortingListaEnlazadaDoble", ThreeWayQuickSortingListaEnlazadaDoble::new);
+        estrategias.put("IntroSortingListaEnlazadaDoble", IntroSortingListaEnlazadaDoble::new);
+        return estrategias;
+    }
+
+    public static Map<String, Supplier<SortingStrategyListaCircular<Politico>>> buildCircularStrategies() {
+        Map<String, Supplier<SortingStrategyListaCircular<Politico>>> estrategias = new LinkedHashMap<>();
+        estrategias.put("BubbleSortingListaCircular", BubbleSortingListaCircular::new);
+        estrategias.put("SelectionSortingListaCircular", SelectionSortingListaCircular::new);
+        estrategias.put("InsertionSortingListaCircular", InsertionSortingListaCircular::new);
+        estrategias.put("MergeSortingListaCircular", MergeSortingListaCircular::new);
+        estrategias.put("NaturalMergeSortingListaCircular", NaturalMergeSortingListaCircular::new);
+        estrategias.put("BottomUpMergeSortingListaCircular", BottomUpMergeSortingListaCircular::new);
+        estrategias.put("HybridMergeSortingListaCircular", HybridMergeSortingListaCircular::new);
+        estrategias.put("ArraySortingListaCircular", ArraySortingListaCircular::new);
+        estrategias.put("CountingSortingListaCircular", () -> new CountingSortingListaCircular<>(Politico::getDinero));
+        estrategias.put("RadixSortingListaCircular", () -> new RadixSortingListaCircular<>(Politico::getDinero));
+        estrategias.put("QuickSortingListaCircular", QuickSortingListaCircular::new);
+        estrategias.put("ThreeWayQuickSortingListaCircular", ThreeWayQuickSortingListaCircular::new);
+        estrategias.put("IntroSortingListaCircular", IntroSortingListaCircular::new);
+        return estrategias;
+    }
+
+    public static Map<String, Supplier<SortingStrategyListaDesenrollada<Politico>>> buildUnrolledStrategies() {
+        Map<String, Supplier<SortingStrategyListaDesenrollada<Politico>>> estrategias = new LinkedHashMap<>();
+        estrategias.put("InsertionSortingListaDesenrollada", InsertionSortingListaDesenrollada::new);
+        estrategias.put("MergeSortingListaDesenrollada", MergeSortingListaDesenrollada::new);
+        estrategias.put("QuickSortingListaDesenrollada", QuickSortingListaDesenrollada::new);
+        return estrategias;
+    }
+
+    public static Map<String, Supplier<SortingStrategyListaFueraDeHeap>> buildOffHeapStrategies() {
+        Map<String, Supplier<SortingStrategyListaFueraDeHeap>> estrategias = new LinkedHashMap<>();
+        estrategias.put("MergeSortingListaFueraDeHeap", MergeSortingListaFueraDeHeap::new);
+        return estrategias;
+    }
+}
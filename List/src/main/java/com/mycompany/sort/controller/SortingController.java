@@ -1,33 +1,62 @@
 package com.mycompany.sort.controller;
 
 import com.mycompany.sort.config.DataHandlerConfig;
+import com.mycompany.sort.config.SimulacionConfig;
+import com.mycompany.sort.config.SortingStrategyConfig;
+import com.mycompany.sort.export.EscritorCSV;
+import com.mycompany.sort.export.EscritorPDF;
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.MedidorRecursos;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.SortingStrategy.*;
 import com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble.*;
 import com.mycompany.sort.model.SortingStrategyListaCircular.*;
+import com.mycompany.sort.model.SortingStrategyListaDesenrollada.*;
+import com.mycompany.sort.model.SortingStrategyListaFueraDeHeap.*;
 import com.mycompany.sort.model.datahandler.DataGeneratorHandler;
 import com.mycompany.sort.model.politico.*;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.lang.foreign.Arena;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 
 /**
  * Controlador que gestiona la ejecución de diferentes algoritmos de ordenamiento
- * sobre distintas estructuras de datos (lista simple, doble y circular).
+ * sobre distintas estructuras de datos (lista simple, doble, circular, desenrollada y fuera del heap).
  * Permite realizar simulaciones completas y exportar los resultados.
  */
 public class SortingController {
     private ListaEnlazadaSimple<Politico> listaSimpleActual;
     private ListaEnlazadaDoble<Politico> listaDobleActual;
     private ListaEnlazadaSimpleCircular<Politico> listaCircularActual;
+    private ListaEnlazadaDesenrollada<Politico> listaDesenrolladaActual;
+
+    /**
+     * Índices skip list de las listas simple y doble de manipulación; solo existen si los datos
+     * cargados estaban ordenados y dejan de usarse en cuanto la lista se modifica sin pasar por ellos.
+     */
+    private IndiceSkipList<Politico> indiceSimple;
+    private IndiceSkipList<Politico> indiceDoble;
     /**
      * Generador de datos para las pruebas de ordenamiento.
      */
@@ -39,19 +68,38 @@ public class SortingController {
     private final List<ResultadoOrdenamiento> resultados;
 
     /**
-     * Lista de estrategias de ordenamiento para listas enlazadas simples.
+     * Fábricas de estrategias de ordenamiento para listas enlazadas simples.
+     * Cada ejecución crea su propia instancia, ya que algunas estrategias guardan
+     * contadores internos y no pueden compartirse entre hilos.
+     */
+    private final Map<String, Supplier<SortingStrategy<Politico>>> estrategiasSimples;
+
+    /**
+     * Fábricas de estrategias de ordenamiento para listas doblemente enlazadas.
+     */
+    private final Map<String, Supplier<SortingStrategyEnlazadaDoble<Politico>>> estrategiasDobles;
+
+    /**
+     * Fábricas de estrategias de ordenamiento para listas circulares.
+     */
+    private final Map<String, Supplier<SortingStrategyListaCircular<Politico>>> estrategiasCirculares;
+
+    /**
+     * Fábricas de estrategias de ordenamiento para listas desenrolladas.
      */
-    private final List<SortingStrategy<Politico>> estrategiasSimples;
+    private final Map<String, Supplier<SortingStrategyListaDesenrollada<Politico>>> estrategiasDesenrolladas;
 
     /**
-     * Lista de estrategias de ordenamiento para listas doblemente enlazadas.
+     * Fábricas de estrategias de ordenamiento para listas fuera del heap.
      */
-    private final List<SortingStrategyEnlazadaDoble<Politico>> estrategiasDobles;
+    private final Map<String, Supplier<SortingStrategyListaFueraDeHeap>> estrategiasFueraDeHeap;
 
     /**
-     * Lista de estrategias de ordenamiento para listas circulares.
+     * Arena de nodos de cada hilo para las copias que se ordenan. Tras la primera copia de una
+     * celda las siguientes reutilizan los mismos nodos, así que las ejecuciones medidas no
+     * generan basura por copiar la lista.
      */
-    private final List<SortingStrategyListaCircular<Politico>> estrategiasCirculares;
+    private final ThreadLocal<ArenaNodos<Politico>> arenas = ThreadLocal.withInitial(ArenaNodos::new);
 
     /**
      * Constructor que inicializa el controlador y configura las estrategias de ordenamiento.
@@ -59,147 +107,475 @@ public class SortingController {
     public SortingController() {
         this.dataGenerator = DataHandlerConfig.buildHandlerChain();
         this.resultados = new ArrayList<>();
-        this.estrategiasSimples = new ArrayList<>();
-        this.estrategiasDobles = new ArrayList<>();
-        this.estrategiasCirculares = new ArrayList<>();
+        this.estrategiasSimples = SortingStrategyConfig.buildSimpleStrategies();
+        this.estrategiasDobles = SortingStrategyConfig.buildDoubleStrategies();
+        this.estrategiasCirculares = SortingStrategyConfig.buildCircularStrategies();
+        this.estrategiasDesenrolladas = SortingStrategyConfig.buildUnrolledStrategies();
+        this.estrategiasFueraDeHeap = SortingStrategyConfig.buildOffHeapStrategies();
         this.listaSimpleActual = new ListaEnlazadaSimple<>();
         this.listaDobleActual = new ListaEnlazadaDoble<>();
         this.listaCircularActual = new ListaEnlazadaSimpleCircular<>();
-
-        inicializarEstrategias();
+        this.listaDesenrolladaActual = new ListaEnlazadaDesenrollada<>();
     }
 
     /**
-     * Inicializa todas las estrategias de ordenamiento disponibles para cada tipo de lista.
+     * Ejecuta una simulación completa de ordenamiento con diferentes tipos de datos y estructuras.
+     * @param tamanioDatos Tamaño del conjunto de datos a ordenar
      */
-    private void inicializarEstrategias() {
-        // Estrategias para lista simple
-        estrategiasSimples.add(new BubbleSortingStrategy<>());
-        estrategiasSimples.add(new SelectionSortingStrategy<>());
-        estrategiasSimples.add(new InsertionSortingStrategy<>());
-        estrategiasSimples.add(new MergeSortingStrategy<>());
-        estrategiasSimples.add(new QuickSortingStrategy<>());
+    public void ejecutarSimulacionCompleta(int tamanioDatos) {
+        ejecutarSimulacionCompleta(tamanioDatos, 1);
+    }
 
-        // Estrategias para lista doble
-        estrategiasDobles.add(new BubbleSortingListaEnlazadaDoble<>());
-        estrategiasDobles.add(new SelectionSortingListaEnlazadaDoble<>());
-        estrategiasDobles.add(new InsertionSortingListaEnlazadaDoble<>());
-        estrategiasDobles.add(new MergeSortingListaEnlazadaDoble<>());
-        estrategiasDobles.add(new QuickSortingListaEnlazadaDoble<>());
+    /**
+     * Ejecuta una simulación completa repartiendo las celdas (tipo de datos, tipo de lista, estrategia)
+     * entre un pool de hilos. Cada celda ordena su propia copia de la lista, y los resultados se
+     * guardan siempre en el mismo orden que en la ejecución secuencial.
+     *
+     * @param tamanioDatos Tamaño del conjunto de datos a ordenar
+     * @param hilos        Cantidad de hilos a usar; con 1 o menos la simulación es secuencial
+     */
+    public void ejecutarSimulacionCompleta(int tamanioDatos, int hilos) {
+        ejecutarSimulacionCompleta(tamanioDatos, hilos, resultado -> { });
+    }
 
-        // Estrategias para lista circular
-        estrategiasCirculares.add(new BubbleSortingListaCircular<>());
-        estrategiasCirculares.add(new SelectionSortingListaCircular<>());
-        estrategiasCirculares.add(new InsertionSortingListaCircular<>());
-        estrategiasCirculares.add(new MergeSortingListaCircular<>());
-        estrategiasCirculares.add(new QuickSortingListaCircular<>());
+    /**
+     * Ejecuta una simulación completa notificando cada resultado en cuanto su estrategia termina.
+     * El oyente se invoca siempre desde el hilo que llama a este método; en modo paralelo recibe
+     * los resultados en orden de finalización, mientras que {@link #getResultados()} conserva el
+     * orden determinista.
+     * <p>
+     * Si el hilo que ejecuta la simulación es interrumpido, la estrategia en curso se detiene y el
+     * método termina con {@link CancellationException}; los resultados ya obtenidos se conservan.
+     * </p>
+     *
+     * @param tamanioDatos Tamaño del conjunto de datos a ordenar
+     * @param hilos        Cantidad de hilos a usar; con 1 o menos la simulación es secuencial
+     * @param oyente       Receptor de cada resultado a medida que se produce
+     * @throws CancellationException si la simulación fue cancelada
+     */
+    public void ejecutarSimulacionCompleta(int tamanioDatos, int hilos, Consumer<ResultadoOrdenamiento> oyente) {
+        SimulacionConfig config = new SimulacionConfig();
+        config.setHilos(hilos);
+        ejecutarSimulacion(tamanioDatos, config, oyente);
     }
 
     /**
-     * Ejecuta una simulación completa de ordenamiento con diferentes tipos de datos y estructuras.
+     * Ejecuta la parte de la matriz de simulación seleccionada por la configuración
+     * (tipos de datos, tipos de lista y estrategias), con la misma semántica de orden,
+     * notificación y cancelación que {@link #ejecutarSimulacionCompleta(int, int, Consumer)}.
+     *
      * @param tamanioDatos Tamaño del conjunto de datos a ordenar
+     * @param config       Selección de celdas y cantidad de hilos
+     * @param oyente       Receptor de cada resultado a medida que se produce
+     * @throws CancellationException si la simulación fue cancelada
      */
-    public void ejecutarSimulacionCompleta(int tamanioDatos) {
+    public void ejecutarSimulacion(int tamanioDatos, SimulacionConfig config, Consumer<ResultadoOrdenamiento> oyente) {
         resultados.clear();  // Asegurarse de que los resultados se limpien antes de la ejecución
 
-        String[] tiposDatos = {"SORTED", "INVERSE", "RANDOM"};
+        List<String> tiposDatos = config.getTiposDatos();
+
+        if (config.getHilos() <= 1) {
+            try {
+                for (String tipo : tiposDatos) {
+                    System.out.println("Comenzando simulación para tipo de datos: " + tipo);
+                    for (Callable<ResultadoOrdenamiento> celda : prepararCeldas(tipo, tamanioDatos, config)) {
+                        Cancelacion.verificar();
+                        ResultadoOrdenamiento resultado = ejecutarCelda(celda);
+                        if (resultado != null) {
+                            resultados.add(resultado);
+                            oyente.accept(resultado);
+                        }
+                    }
+                }
+            } finally {
+                // Los hilos del pool paralelo terminan con la simulación; este no, así que se suelta su arena.
+                arenas.remove();
+            }
+        } else {
+            List<Callable<ResultadoOrdenamiento>> celdas = new ArrayList<>();
+            for (String tipo : tiposDatos) {
+                celdas.addAll(prepararCeldas(tipo, tamanioDatos, config));
+            }
+            ejecutarEnParalelo(celdas, config.getHilos(), oyente);
+        }
+
+        System.out.println("Simulación completa terminada.");
+    }
 
-        for (String tipo : tiposDatos) {
-            System.out.println("Comenzando simulación para tipo de datos: " + tipo);
+    /**
+     * Mide las estrategias híbridas de inserción y fusión con cada umbral de inserción indicado y
+     * devuelve, por tipo de lista, el umbral más rápido en esta máquina. Se barren las listas
+     * simple, doble y circular seleccionadas en la configuración, con sus tipos de datos y sus
+     * ejecuciones de calentamiento y medidas; el filtro de estrategias y los hilos no se usan, ya
+     * que las mediciones se hacen en secuencia para no competir entre sí. El mejor umbral es el de
+     * menor suma de medianas entre los tipos de datos.
+     * <p>
+     * Cada medición se guarda en {@link #getResultados()} y se notifica al oyente, con el umbral
+     * en el nombre de la estrategia, para poder exportarla como las de una simulación.
+     * </p>
+     *
+     * @param tamanioDatos Tamaño del conjunto de datos a ordenar
+     * @param umbrales     Umbrales de inserción a probar (al menos uno, todos positivos)
+     * @param config       Tipos de datos, tipos de lista y cantidad de ejecuciones
+     * @param oyente       Receptor de cada resultado a medida que se produce
+     * @return Mejor umbral por tipo de lista ("simple", "doble", "circular"), en ese orden
+     * @throws IllegalArgumentException si no hay umbrales o no se seleccionó ninguna de esas listas
+     * @throws CancellationException si el barrido fue cancelado
+     */
+    public Map<String, Integer> barrerUmbralHibrido(int tamanioDatos, int[] umbrales, SimulacionConfig config,
+                                                    Consumer<ResultadoOrdenamiento> oyente) {
+        if (umbrales.length == 0) {
+            throw new IllegalArgumentException("Se necesita al menos un umbral");
+        }
+        Map<String, double[]> sumaMedianas = new LinkedHashMap<>();
+        for (String tipoLista : List.of("simple", "doble", "circular")) {
+            if (config.incluyeLista(tipoLista)) {
+                sumaMedianas.put(tipoLista, new double[umbrales.length]);
+            }
+        }
+        if (sumaMedianas.isEmpty()) {
+            throw new IllegalArgumentException("El barrido requiere la lista simple, doble o circular");
+        }
+
+        resultados.clear();
+        try {
+            for (String tipo : config.getTiposDatos()) {
+                Politico[] datos = dataGenerator.generateColumns(tipo, tamanioDatos).materializar();
+                for (Map.Entry<String, double[]> entrada : sumaMedianas.entrySet()) {
+                    IntFunction<ResultadoOrdenamiento> medirUmbral = medidorHibrido(entrada.getKey(), datos, config);
+                    for (int i = 0; i < umbrales.length; i++) {
+                        Cancelacion.verificar();
+                        ResultadoOrdenamiento resultado = medirUmbral.apply(umbrales[i]).withContext(
+                                tipo, tamanioDatos, etiquetaHibrida(entrada.getKey()) + " (umbral " + umbrales[i] + ")");
+                        entrada.getValue()[i] += resultado.getMedianaMillis();
+                        resultados.add(resultado);
+                        oyente.accept(resultado);
+                    }
+                }
+            }
+        } finally {
+            arenas.remove();
+        }
+
+        Map<String, Integer> mejores = new LinkedHashMap<>();
+        sumaMedianas.forEach((tipoLista, sumas) -> {
+            int mejor = 0;
+            for (int i = 1; i < sumas.length; i++) {
+                if (sumas[i] < sumas[mejor]) {
+                    mejor = i;
+                }
+            }
+            mejores.put(tipoLista, umbrales[mejor]);
+        });
+        return mejores;
+    }
 
-            Politico[] datos = dataGenerator.generateData(tipo, tamanioDatos);
+    /**
+     * Construye la lista original del tipo indicado y devuelve una función que mide la estrategia
+     * híbrida de ese tipo de lista con un umbral dado, sobre copias de esa lista.
+     */
+    private IntFunction<ResultadoOrdenamiento> medidorHibrido(String tipoLista, Politico[] datos, SimulacionConfig config) {
+        switch (tipoLista) {
+            case "simple": {
+                ListaEnlazadaSimple<Politico> original = convertirArrayAListaSimple(datos);
+                return umbral -> medir(() -> copiarListaSimple(original),
+                        new HybridMergeSortingStrategy<Politico>(umbral)::sort, config);
+            }
+            case "doble": {
+                ListaEnlazadaDoble<Politico> original = convertirArrayAListaDoble(datos);
+                return umbral -> medir(() -> copiarListaDoble(original),
+                        new HybridMergeSortingListaEnlazadaDoble<Politico>(umbral)::sort, config);
+            }
+            case "circular": {
+                ListaEnlazadaSimpleCircular<Politico> original = convertirArrayAListaCircular(datos);
+                return umbral -> medir(() -> copiarListaCircular(original),
+                        new HybridMergeSortingListaCircular<Politico>(umbral)::sort, config);
+            }
+            default:
+                throw new IllegalArgumentException("Tipo de lista sin estrategia híbrida: " + tipoLista);
+        }
+    }
 
-            // Procesar lista simple
-            System.out.println("Procesando lista simple...");
-            procesarListaSimple(datos, tipo, tamanioDatos);
-            System.out.println("terminado simples");
+    private static String etiquetaHibrida(String tipoLista) {
+        switch (tipoLista) {
+            case "simple":
+                return "Simple - " + HybridMergeSortingStrategy.class.getSimpleName();
+            case "doble":
+                return "Doble - " + HybridMergeSortingListaEnlazadaDoble.class.getSimpleName();
+            default:
+                return "Circular - " + HybridMergeSortingListaCircular.class.getSimpleName();
+        }
+    }
 
-            // Procesar lista doble
-            System.out.println("Procesando lista doble...");
-            procesarListaDoble(datos, tipo, tamanioDatos);
-            System.out.println("terminado dobles");
+    /**
+     * Ejecuta las celdas en un pool de tamaño fijo. Cada resultado se notifica al oyente en cuanto
+     * termina, y al final se agregan todos en el orden de la lista, independientemente del orden en
+     * que hayan terminado. Una interrupción del hilo llamador cancela todas las celdas pendientes.
+     */
+    private void ejecutarEnParalelo(List<Callable<ResultadoOrdenamiento>> celdas, int hilos,
+                                    Consumer<ResultadoOrdenamiento> oyente) {
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        CompletionService<ResultadoOrdenamiento> completadas = new ExecutorCompletionService<>(pool);
+        List<Future<ResultadoOrdenamiento>> futuros = new ArrayList<>();
+        try {
+            for (Callable<ResultadoOrdenamiento> celda : celdas) {
+                futuros.add(completadas.submit(celda));
+            }
+            for (int i = 0; i < celdas.size(); i++) {
+                ResultadoOrdenamiento resultado = completadas.take().get();
+                if (resultado != null) {
+                    oyente.accept(resultado);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Simulación cancelada");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Error ejecutando la simulación", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            for (Future<ResultadoOrdenamiento> futuro : futuros) {
+                if (futuro.state() == Future.State.SUCCESS) {
+                    agregarResultado(futuro.resultNow());
+                }
+            }
+        }
+    }
 
-            // Procesar lista circular
-            System.out.println("Procesando lista circular...");
-            procesarListaCircular(datos, tipo, tamanioDatos);
-            System.out.println("terminado circular");
+    private ResultadoOrdenamiento ejecutarCelda(Callable<ResultadoOrdenamiento> celda) {
+        try {
+            return celda.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Error ejecutando la simulación", e);
         }
+    }
 
-        System.out.println("Simulación completa terminada.");
+    private void agregarResultado(ResultadoOrdenamiento resultado) {
+        if (resultado != null) {
+            resultados.add(resultado);
+        }
     }
 
     /**
-     * Procesa el ordenamiento usando las estrategias para lista simple.
-     * @param datos Array de políticos a ordenar
+     * Genera los datos de un tipo y crea una celda por cada combinación de lista y estrategia
+     * seleccionada en la configuración, en el orden simple, doble, circular, desenrollada, fueradeheap.
+     * Solo se construyen las listas originales de los tipos de lista seleccionados. Los datos se
+     * generan por columnas y los objetos {@link Politico} solo se crean si alguna lista del heap
+     * está seleccionada.
      * @param tipo Tipo de ordenamiento inicial de los datos
      * @param tamanio Tamaño del conjunto de datos
+     * @param config Selección de listas y estrategias
+     * @return Celdas listas para ejecutarse, cada una sobre su propia copia de la lista
      */
-    private void procesarListaSimple(Politico[] datos, String tipo, int tamanio) {
-        ListaEnlazadaSimple<Politico> listaOriginal = convertirArrayAListaSimple(datos);
+    private List<Callable<ResultadoOrdenamiento>> prepararCeldas(String tipo, int tamanio, SimulacionConfig config) {
+        ColumnasPolitico columnas = dataGenerator.generateColumns(tipo, tamanio);
+        Politico[] datos = incluyeListasDelHeap(config) ? columnas.materializar() : null;
+        List<Callable<ResultadoOrdenamiento>> celdas = new ArrayList<>();
+
+        if (config.incluyeLista("simple")) {
+            ListaEnlazadaSimple<Politico> originalSimple = convertirArrayAListaSimple(datos);
+            estrategiasSimples.forEach((nombre, fabrica) -> {
+                if (config.incluyeEstrategia(nombre)) {
+                    celdas.add(() -> procesarListaSimple(originalSimple, fabrica.get(), tipo, tamanio, config));
+                }
+            });
+        }
+
+        if (config.incluyeLista("doble")) {
+            ListaEnlazadaDoble<Politico> originalDoble = convertirArrayAListaDoble(datos);
+            estrategiasDobles.forEach((nombre, fabrica) -> {
+                if (config.incluyeEstrategia(nombre)) {
+                    celdas.add(() -> procesarListaDoble(originalDoble, fabrica.get(), tipo, tamanio, config));
+                }
+            });
+        }
 
-        for (SortingStrategy<Politico> estrategia : estrategiasSimples) {
-            ListaEnlazadaSimple<Politico> listaParaOrdenar = copiarListaSimple(listaOriginal);
+        if (config.incluyeLista("circular")) {
+            ListaEnlazadaSimpleCircular<Politico> originalCircular = convertirArrayAListaCircular(datos);
+            estrategiasCirculares.forEach((nombre, fabrica) -> {
+                if (config.incluyeEstrategia(nombre)) {
+                    celdas.add(() -> procesarListaCircular(originalCircular, fabrica.get(), tipo, tamanio, config));
+                }
+            });
+        }
 
-            ResultadoOrdenamiento resultado = estrategia.sort(listaParaOrdenar);
-            resultados.add(resultado.withContext(
-                    tipo,
-                    tamanio,
-                    "Simple - " + estrategia.getClass().getSimpleName()
-            ));
+        if (config.incluyeLista("desenrollada")) {
+            ListaEnlazadaDesenrollada<Politico> originalDesenrollada = convertirArrayAListaDesenrollada(datos);
+            estrategiasDesenrolladas.forEach((nombre, fabrica) -> {
+                if (config.incluyeEstrategia(nombre)) {
+                    celdas.add(() -> procesarListaDesenrollada(originalDesenrollada, fabrica.get(), tipo, tamanio, config));
+                }
+            });
+        }
+
+        if (config.incluyeLista("fueradeheap")) {
+            // Arena automática: la memoria del original se libera cuando ninguna celda lo referencia
+            ListaPoliticoFueraDeHeap originalFueraDeHeap = ListaPoliticoFueraDeHeap.desde(columnas, Arena.ofAuto());
+            estrategiasFueraDeHeap.forEach((nombre, fabrica) -> {
+                if (config.incluyeEstrategia(nombre)) {
+                    celdas.add(() -> procesarListaFueraDeHeap(originalFueraDeHeap, fabrica.get(), tipo, tamanio, config));
+                }
+            });
         }
+        return celdas;
+    }
 
+    private static boolean incluyeListasDelHeap(SimulacionConfig config) {
+        return config.incluyeLista("simple") || config.incluyeLista("doble")
+                || config.incluyeLista("circular") || config.incluyeLista("desenrollada");
     }
 
     /**
-     * Procesa el ordenamiento usando las estrategias para lista doble.
-     * @param datos Array de políticos a ordenar
+     * Ordena una copia de la lista simple con la estrategia indicada.
+     * @param listaOriginal Lista de referencia, no se modifica
+     * @param estrategia Estrategia a ejecutar
      * @param tipo Tipo de ordenamiento inicial de los datos
      * @param tamanio Tamaño del conjunto de datos
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado con contexto
      */
-    private void procesarListaDoble(Politico[] datos, String tipo, int tamanio) {
-        ListaEnlazadaDoble<Politico> listaOriginal = convertirArrayAListaDoble(datos);
+    private ResultadoOrdenamiento procesarListaSimple(ListaEnlazadaSimple<Politico> listaOriginal,
+                                                      SortingStrategy<Politico> estrategia,
+                                                      String tipo, int tamanio, SimulacionConfig config) {
+        ResultadoOrdenamiento resultado = medir(() -> copiarListaSimple(listaOriginal), estrategia::sort, config);
+        return resultado.withContext(
+                tipo,
+                tamanio,
+                "Simple - " + estrategia.getClass().getSimpleName()
+        );
+    }
 
-        for (SortingStrategyEnlazadaDoble<Politico> estrategia : estrategiasDobles) {
-            ListaEnlazadaDoble<Politico> listaParaOrdenar = copiarListaDoble(listaOriginal);
+    /**
+     * Ordena una copia de la lista doble con la estrategia indicada.
+     * @param listaOriginal Lista de referencia, no se modifica
+     * @param estrategia Estrategia a ejecutar
+     * @param tipo Tipo de ordenamiento inicial de los datos
+     * @param tamanio Tamaño del conjunto de datos
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado con contexto
+     */
+    private ResultadoOrdenamiento procesarListaDoble(ListaEnlazadaDoble<Politico> listaOriginal,
+                                                     SortingStrategyEnlazadaDoble<Politico> estrategia,
+                                                     String tipo, int tamanio, SimulacionConfig config) {
+        ResultadoOrdenamiento resultado = medir(() -> copiarListaDoble(listaOriginal), estrategia::sort, config);
+        return resultado.withContext(
+                tipo,
+                tamanio,
+                "Doble - " + estrategia.getClass().getSimpleName()
+        );
+    }
 
-            ResultadoOrdenamiento resultado = estrategia.sort(listaParaOrdenar);
-            resultados.add(resultado.withContext(
+    /**
+     * Ordena una copia de la lista circular con la estrategia indicada.
+     * @param listaOriginal Lista de referencia, no se modifica
+     * @param estrategia Estrategia a ejecutar
+     * @param tipo Tipo de ordenamiento inicial de los datos
+     * @param tamanio Tamaño del conjunto de datos
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado con contexto, o {@code null} si la estrategia falló
+     */
+    private ResultadoOrdenamiento procesarListaCircular(ListaEnlazadaSimpleCircular<Politico> listaOriginal,
+                                                        SortingStrategyListaCircular<Politico> estrategia,
+                                                        String tipo, int tamanio, SimulacionConfig config) {
+        System.out.println("Ejecutando estrategia: " + estrategia.getClass().getSimpleName());
+
+        // Aquí se muestra el tiempo de ejecución de cada estrategia
+        try {
+            ResultadoOrdenamiento resultado = medir(() -> copiarListaCircular(listaOriginal), estrategia::sort, config);
+            System.out.println("Estrategia " + estrategia.getClass().getSimpleName() + " terminada");
+            return resultado.withContext(
                     tipo,
                     tamanio,
-                    "Doble - " + estrategia.getClass().getSimpleName()
-            ));
+                    "Circular - " + estrategia.getClass().getSimpleName()
+            );
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            System.err.println("Error en la ejecución de la estrategia " + estrategia.getClass().getSimpleName() + ": " + e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Procesa el ordenamiento usando las estrategias para lista circular.
-     * @param datos Array de políticos a ordenar
+     * Ordena una copia de la lista desenrollada con la estrategia indicada.
+     * @param listaOriginal Lista de referencia, no se modifica
+     * @param estrategia Estrategia a ejecutar
      * @param tipo Tipo de ordenamiento inicial de los datos
      * @param tamanio Tamaño del conjunto de datos
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado con contexto
      */
-    private void procesarListaCircular(Politico[] datos, String tipo, int tamanio) {
-        ListaEnlazadaSimpleCircular<Politico> listaOriginal = convertirArrayAListaCircular(datos);
-        for (SortingStrategyListaCircular<Politico> estrategia : estrategiasCirculares) {
-            System.out.println("Ejecutando estrategia: " + estrategia.getClass().getSimpleName());
+    private ResultadoOrdenamiento procesarListaDesenrollada(ListaEnlazadaDesenrollada<Politico> listaOriginal,
+                                                           SortingStrategyListaDesenrollada<Politico> estrategia,
+                                                           String tipo, int tamanio, SimulacionConfig config) {
+        ResultadoOrdenamiento resultado = medir(listaOriginal::copiar, estrategia::sort, config);
+        return resultado.withContext(
+                tipo,
+                tamanio,
+                "Desenrollada - " + estrategia.getClass().getSimpleName()
+        );
+    }
 
-            ListaEnlazadaSimpleCircular<Politico> listaParaOrdenar = copiarListaCircular(listaOriginal);
+    /**
+     * Ordena una copia de la lista fuera del heap con la estrategia indicada. Cada copia se
+     * reserva en una arena propia del hilo de la celda y se libera al terminar su ejecución.
+     * @param listaOriginal Lista de referencia, no se modifica
+     * @param estrategia Estrategia a ejecutar
+     * @param tipo Tipo de ordenamiento inicial de los datos
+     * @param tamanio Tamaño del conjunto de datos
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado con contexto
+     */
+    private ResultadoOrdenamiento procesarListaFueraDeHeap(ListaPoliticoFueraDeHeap listaOriginal,
+                                                          SortingStrategyListaFueraDeHeap estrategia,
+                                                          String tipo, int tamanio, SimulacionConfig config) {
+        ResultadoOrdenamiento resultado = medir(listaOriginal::copiar, estrategia::sort, config);
+        return resultado.withContext(
+                tipo,
+                tamanio,
+                "FueraDeHeap - " + estrategia.getClass().getSimpleName()
+        );
+    }
 
-            // Aquí se muestra el tiempo de ejecución de cada estrategia
-            try {
-                ResultadoOrdenamiento resultado = estrategia.sort(listaParaOrdenar);
-                resultados.add(resultado.withContext(
-                        tipo,
-                        tamanio,
-                        "Circular - " + estrategia.getClass().getSimpleName()
-                ));
-                System.out.println("Estrategia " + estrategia.getClass().getSimpleName() + " terminada");
-            } catch (Exception e) {
-                System.err.println("Error en la ejecución de la estrategia " + estrategia.getClass().getSimpleName() + ": " + e.getMessage());
-            }
+    /**
+     * Ejecuta el ordenamiento las veces de calentamiento configuradas descartando el resultado,
+     * y luego las veces medidas, resumiendo estas últimas en un único resultado con estadísticas.
+     * Cada ejecución recibe una copia nueva de la lista; la copia queda fuera del tiempo y de la
+     * memoria medidos, ya que solo se observa la llamada a la estrategia. Las copias que reservan
+     * memoria nativa se liberan tras cada ejecución, también fuera de la medición.
+     *
+     * @param copiar Crea la copia de la lista que se va a ordenar
+     * @param ordenar Ordena la copia, devolviendo el resultado crudo
+     * @param config Cantidad de ejecuciones de calentamiento y medidas
+     * @return Resultado agregado de las ejecuciones medidas, con bytes asignados y actividad de GC
+     */
+    private <L> ResultadoOrdenamiento medir(Supplier<L> copiar, Function<L, ResultadoOrdenamiento> ordenar,
+                                            SimulacionConfig config) {
+        for (int i = 0; i < config.getCalentamiento(); i++) {
+            L lista = copiar.get();
+            ordenar.apply(lista);
+            liberar(lista);
+        }
+        List<ResultadoOrdenamiento> muestras = new ArrayList<>(config.getMediciones());
+        for (int i = 0; i < config.getMediciones(); i++) {
+            L lista = copiar.get();
+            MedidorRecursos medidor = MedidorRecursos.iniciar();
+            muestras.add(medidor.detener(ordenar.apply(lista)));
+            liberar(lista);
         }
-        System.out.println("Terminada la simulación de listas circulares para tipo de datos: " + tipo);
+        return ResultadoOrdenamiento.agregar(muestras);
     }
 
+    private static void liberar(Object lista) {
+        if (lista instanceof ListaPoliticoFueraDeHeap fueraDeHeap) {
+            fueraDeHeap.close();
+        }
+    }
 
     /**
      * Convierte un array de políticos a una lista enlazada simple.
@@ -207,59 +583,57 @@ public class SortingController {
      * @return Lista enlazada simple con los datos convertidos
      */
     private ListaEnlazadaSimple<Politico> convertirArrayAListaSimple(Politico[] datos) {
-        ListaEnlazadaSimple<Politico> lista = new ListaEnlazadaSimple<>();
-        for (Politico p : datos) {
-            lista.insertarAlFinal(p);
-        }
-        return lista;
+        return ListaEnlazadaSimple.fromArrayParalelo(datos);
     }
 
+    /**
+     * Copia la lista con los nodos de la arena del hilo actual. La copia anterior hecha en este
+     * hilo deja de ser válida, porque sus nodos se reutilizan.
+     * @param original Lista de referencia, no se modifica
+     * @return Copia lista para ordenar
+     */
     private ListaEnlazadaSimple<Politico> copiarListaSimple(ListaEnlazadaSimple<Politico> original) {
-        ListaEnlazadaSimple<Politico> copia = new ListaEnlazadaSimple<>();
-        Nodo<Politico> actual = original.getCabeza();
-        while (actual != null) {
-            copia.insertarAlFinal(actual.getDato());
-            actual = actual.getSiguiente();
-        }
-        return copia;
+        ArenaNodos<Politico> arena = arenas.get();
+        arena.reiniciar();
+        return arena.copiar(original);
     }
 
     private ListaEnlazadaDoble<Politico> convertirArrayAListaDoble(Politico[] datos) {
-        ListaEnlazadaDoble<Politico> lista = new ListaEnlazadaDoble<>();
-        for (Politico p : datos) {
-            lista.insertarAlFinal(p);
-        }
-        return lista;
+        return ListaEnlazadaDoble.fromArrayParalelo(datos);
     }
 
+    /**
+     * Copia la lista doble con los nodos de la arena del hilo actual, invalidando la copia anterior.
+     * @param original Lista de referencia, no se modifica
+     * @return Copia lista para ordenar
+     */
     private ListaEnlazadaDoble<Politico> copiarListaDoble(ListaEnlazadaDoble<Politico> original) {
-        ListaEnlazadaDoble<Politico> copia = new ListaEnlazadaDoble<>();
-        NodoDoble<Politico> actual = original.getCabeza();
-        while (actual != null) {
-            copia.insertarAlFinal(actual.getDato());
-            actual = actual.getSiguiente();
-        }
-        return copia;
+        ArenaNodos<Politico> arena = arenas.get();
+        arena.reiniciar();
+        return arena.copiar(original);
     }
 
     private ListaEnlazadaSimpleCircular<Politico> convertirArrayAListaCircular(Politico[] datos) {
-        ListaEnlazadaSimpleCircular<Politico> lista = new ListaEnlazadaSimpleCircular<>();
-        for (Politico p : datos) {
-            lista.insertarAlFinal(p);
-        }
-        return lista;
+        return ListaEnlazadaSimpleCircular.fromArrayParalelo(datos);
     }
 
+    /**
+     * Copia la lista circular con los nodos de la arena del hilo actual, invalidando la copia anterior.
+     * @param original Lista de referencia, no se modifica
+     * @return Copia lista para ordenar
+     */
     private ListaEnlazadaSimpleCircular<Politico> copiarListaCircular(ListaEnlazadaSimpleCircular<Politico> original) {
-        ListaEnlazadaSimpleCircular<Politico> copia = new ListaEnlazadaSimpleCircular<>();
-        if (original.estaVacia()) return copia;
+        ArenaNodos<Politico> arena = arenas.get();
+        arena.reiniciar();
+        return arena.copiar(original);
+    }
 
-        Nodo<Politico> actual = original.getCabeza();
-        for (int i = 0; i < original.getTamanno(); i++) {
-            copia.insertarAlFinal(actual.getDato());
-            actual = actual.getSiguiente();
+    private ListaEnlazadaDesenrollada<Politico> convertirArrayAListaDesenrollada(Politico[] datos) {
+        ListaEnlazadaDesenrollada<Politico> lista = new ListaEnlazadaDesenrollada<>();
+        for (Politico p : datos) {
+            lista.insertarAlFinal(p);
         }
-        return copia;
+        return lista;
     }
     //--------------- Mostrar Elementos ------------------------
     /**
@@ -284,48 +658,43 @@ public class SortingController {
     }
 
     /**
-     * Método genérico para obtener los primeros N elementos de cualquier lista
+     * Obtiene los primeros 10 elementos de la lista desenrollada como cadena
      */
-    private String obtenerPrimerosNElementos(ListaEnlazadaSimple<Politico> lista, int n) {
-        StringBuilder sb = new StringBuilder();
-        Nodo<Politico> actual = lista.getCabeza();
-        int count = 0;
-
-        while (actual != null && count < n) {
-            sb.append(actual.getDato().toString()).append("\n");
-            actual = actual.getSiguiente();
-            count++;
-        }
-        return sb.toString();
+    public String getPrimeros10ListaDesenrollada() {
+        return obtenerPrimerosNElementos(listaDesenrolladaActual, 10);
     }
 
-    private String obtenerPrimerosNElementos(ListaEnlazadaDoble<Politico> lista, int n) {
+    /**
+     * Concatena los primeros N elementos de una lista recorrible con su iterador (simple, doble o
+     * circular), uno por línea.
+     */
+    private String obtenerPrimerosNElementos(Iterable<Politico> lista, int n) {
         StringBuilder sb = new StringBuilder();
-        NodoDoble<Politico> actual = lista.getCabeza();
         int count = 0;
 
-        while (actual != null && count < n) {
-            sb.append(actual.getDato().toString()).append("\n");
-            actual = actual.getSiguiente();
-            count++;
+        for (Politico politico : lista) {
+            if (count++ == n) {
+                break;
+            }
+            sb.append(politico.toString()).append("\n");
         }
         return sb.toString();
     }
 
-    private String obtenerPrimerosNElementos(ListaEnlazadaSimpleCircular<Politico> lista, int n) {
+    /**
+     * Igual que {@link #obtenerPrimerosNElementos(Iterable, int)} para la lista desenrollada,
+     * leyendo los elementos directamente de los arreglos de sus nodos.
+     */
+    private String obtenerPrimerosNElementos(ListaEnlazadaDesenrollada<Politico> lista, int n) {
         StringBuilder sb = new StringBuilder();
-        if (lista.estaVacia())
-            return "";
-
-        Nodo<Politico> actual = lista.getCabeza();
         int count = 0;
 
-        do {
-            sb.append(actual.getDato().toString()).append("\n");
-            actual = actual.getSiguiente();
-            count++;
-        } while (actual != lista.getCabeza() && count < n);
-
+        for (NodoDesenrollado<Politico> actual = lista.getCabeza(); actual != null && count < n; actual = actual.getSiguiente()) {
+            for (int i = 0; i < actual.getCantidad() && count < n; i++) {
+                sb.append(actual.get(i).toString()).append("\n");
+                count++;
+            }
+        }
         return sb.toString();
     }
 
@@ -347,6 +716,8 @@ public class SortingController {
             return getPrimeros10ListaDoble();
         case "circular":
             return getPrimeros10ListaCircular();
+        case "desenrollada":
+            return getPrimeros10ListaDesenrollada();
         default:
             return "";
     }
@@ -364,6 +735,9 @@ public void insertarPolitico(String tipoLista, int dinero, LocalDate fecha) {
         case "circular":
             insertarAlFinalListaCircular(politico);
             break;
+        case "desenrollada":
+            listaDesenrolladaActual.insertarAlFinal(politico);
+            break;
     }
 }
 
@@ -379,6 +753,9 @@ public void insertarPoliticoAlInicio(String tipoLista, int dinero, LocalDate fec
         case "circular":
             listaCircularActual.insertarAlInicio(politico);
             break;
+        case "desenrollada":
+            listaDesenrolladaActual.insertarAlInicio(politico);
+            break;
     }
 }
 
@@ -386,14 +763,17 @@ public void eliminarPolitico(String tipoLista, int dinero, LocalDate fecha) {
     Politico politico = new Politico(dinero, fecha);
     switch (tipoLista) {
         case "simple":
-            listaSimpleActual.eliminar(politico);
+            eliminarDeListaSimple(politico);
             break;
         case "doble":
-            listaDobleActual.eliminar(politico);
+            eliminarDeListaDoble(politico);
             break;
         case "circular":
             listaCircularActual.eliminar(politico);
             break;
+        case "desenrollada":
+            listaDesenrolladaActual.eliminar(politico);
+            break;
     }
 }
 
@@ -401,66 +781,61 @@ public boolean buscarPolitico(String tipoLista, int dinero, LocalDate fecha) {
     Politico politico = new Politico(dinero, fecha);
     switch (tipoLista) {
         case "simple":
-            return contiene(listaSimpleActual, politico);
+            return indiceVigente(indiceSimple) ? indiceSimple.contiene(politico) : contiene(listaSimpleActual, politico);
         case "doble":
-            return contiene(listaDobleActual, politico);
+            return listaDobleActual.contiene(politico);
         case "circular":
             return contiene(listaCircularActual, politico);
+        case "desenrollada":
+            return listaDesenrolladaActual.contiene(politico);
         default:
             return false;
     }
 }
 
-private boolean contiene(ListaEnlazadaSimple<Politico> lista, Politico objetivo) {
-    if (lista.estaVacia()) {
-        return false;
-    }
-    
-    // Caso especial para la cabeza
-    if (lista.getCabeza().getDato().equals(objetivo)) {
-        return true;
-    }
-    
-    // Usar buscarNodoAnterior para el resto de nodos
-    Nodo<Politico> nodoAnterior = lista.buscarNodoAnterior(objetivo);
-    return nodoAnterior != null;
+/**
+ * Indica si el índice existe y la lista no se modificó por fuera de él; si no, las búsquedas y
+ * eliminaciones recorren la lista.
+ */
+private static boolean indiceVigente(IndiceSkipList<Politico> indice) {
+    return indice != null && indice.esVigente();
 }
 
-private boolean contiene(ListaEnlazadaDoble<Politico> lista, Politico objetivo) {
-    NodoDoble<Politico> actual = lista.getCabeza();
-    while (actual != null) {
-        if (actual.getDato().equals(objetivo))
+private boolean contiene(Iterable<Politico> lista, Politico objetivo) {
+    for (Politico politico : lista) {
+        if (politico.equals(objetivo)) {
             return true;
-        actual = actual.getSiguiente();
+        }
     }
     return false;
 }
 
-private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico objetivo) {
-    if (lista.estaVacia())
-        return false;
-
-    Nodo<Politico> actual = lista.getCabeza();
-    int count = 0;
-    do {
-        if (actual.getDato().equals(objetivo))
-            return true;
-        actual = actual.getSiguiente();
-        count++;
-    } while (actual != lista.getCabeza() && count < lista.getTamanno());
-
-    return false;
-}
-
     /**
-     * Carga datos en las listas para manipulación.
+     * Carga datos en las listas para manipulación. La lista doble se usa en modo indexado para
+     * buscar y eliminar en O(1) esperado. Si los datos están ordenados, las listas simple y doble
+     * se indexan además con un {@link IndiceSkipList} para buscar y eliminar en O(log n).
      * 
      * @param datos Arreglo de políticos a cargar
      */
     public void cargarDatosParaManipulacion(Politico[] datos) {
         this.listaSimpleActual = convertirArrayAListaSimple(datos);
         this.listaDobleActual = convertirArrayAListaDoble(datos);
+        this.listaDobleActual.activarIndice();
         this.listaCircularActual = convertirArrayAListaCircular(datos);
+        this.listaDesenrolladaActual = convertirArrayAListaDesenrollada(datos);
+
+        boolean ordenados = estaOrdenado(datos);
+        this.indiceSimple = ordenados ? IndiceSkipList.construir(listaSimpleActual) : null;
+        this.indiceDoble = ordenados ? IndiceSkipList.construir(listaDobleActual) : null;
+    }
+
+    private static boolean estaOrdenado(Politico[] datos) {
+        for (int i = 1; i < datos.length; i++) {
+            if (datos[i - 1].compareTo(datos[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     // Métodos para manipulación de lista simple
@@ -474,6 +849,9 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
     }
 
     public boolean eliminarDeListaSimple(Politico politico) {
+        if (indiceVigente(indiceSimple)) {
+            return indiceSimple.eliminar(politico);
+        }
         return listaSimpleActual.eliminar(politico);
     }
 
@@ -496,6 +874,9 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
     }
 
     public boolean eliminarDeListaDoble(Politico politico) {
+        if (indiceVigente(indiceDoble)) {
+            return indiceDoble.eliminar(politico);
+        }
         return listaDobleActual.eliminar(politico);
     }
 
@@ -525,6 +906,10 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
         return listaCircularActual;
     }
 
+    public ListaEnlazadaDesenrollada<Politico> getListaDesenrolladaActual() {
+        return listaDesenrolladaActual;
+    }
+
     /**
      * Obtiene una copia de la lista de resultados de ordenamiento.
      * @return Lista con los resultados de las operaciones de ordenamiento
@@ -536,11 +921,24 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
     // ----------------------------- Impresión -------------------------------
 
     /**
-     * Exporta los resultados de ordenamiento a un archivo CSV.
+     * Exporta los resultados de ordenamiento a un archivo CSV, reemplazando su contenido.
+     * Si la ruta termina en ".gz" el archivo se comprime con gzip.
      * @param rutaCompleta Ruta completa del archivo CSV a generar
      * @throws IOException Si ocurre un error durante la escritura del archivo
      */
     public void exportarCSV(String rutaCompleta) throws IOException {
+        exportarCSV(rutaCompleta, false);
+    }
+
+    /**
+     * Exporta los resultados de ordenamiento a un archivo CSV.
+     * Si la ruta termina en ".gz" el archivo se comprime con gzip.
+     * @param rutaCompleta Ruta completa del archivo CSV a generar
+     * @param anexar {@code true} para añadir las filas al final de un archivo existente; el
+     *               encabezado solo se escribe si el archivo es nuevo
+     * @throws IOException Si ocurre un error durante la escritura del archivo
+     */
+    public void exportarCSV(String rutaCompleta, boolean anexar) throws IOException {
         String rutaAdaptada = adaptarRuta(rutaCompleta);
         File archivo = new File(rutaAdaptada);
 
@@ -551,21 +949,15 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
             }
         }
 
-        try (FileWriter fw = new FileWriter(archivo)) {
-            fw.write("TIPO,ESTRATEGIA,TIEMPO_MS,ITERACIONES\n");
-            for (ResultadoOrdenamiento r : resultados) {
-                fw.write(String.format("%s,%s,%.3f,%d\n",
-                        r.getType(),
-                        r.getStrategy(),
-                        r.getTimeElapsedMillis(),
-                        r.getIterations()));
-            }
+        boolean gzip = rutaAdaptada.toLowerCase(Locale.ROOT).endsWith(".gz");
+        try (EscritorCSV csv = EscritorCSV.abrir(archivo.toPath(), anexar, gzip)) {
+            csv.escribirTodos(resultados);
         }
     }
 
 
     /**
-     * Exporta los resultados de ordenamiento a un archivo PDF.
+     * Exporta los resultados de ordenamiento a un archivo PDF, paginando automáticamente.
      * @param rutaCompleta Ruta completa del archivo PDF a generar
      * @throws IOException Si ocurre un error durante la escritura del archivo
      */
@@ -582,85 +974,11 @@ private boolean contiene(ListaEnlazadaSimpleCircular<Politico> lista, Politico o
             }
         }
 
-        try (FileOutputStream fos = new FileOutputStream(archivo)) {
-            StringBuilder pdfContent = new StringBuilder();
-
-            // Encabezado PDF
-            pdfContent.append("%PDF-1.4\n");
-
-            // Objetos PDF
-            List<Integer> objectPositions = new ArrayList<>();
-
-            // Objeto 1: Catálogo
-            objectPositions.add(pdfContent.length());
-            pdfContent.append("1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
-
-            // Objeto 2: Páginas
-            objectPositions.add(pdfContent.length());
-            pdfContent.append("2 0 obj\n<< /Type /Pages /Kids [3 0 R] /Count 1 >>\nendobj\n");
-
-            // Objeto 3: Página
-            objectPositions.add(pdfContent.length());
-            pdfContent.append("3 0 obj\n<< /Type /Page /Parent 2 0 R /MediaBox [0 0 612 792] ")
-                    .append("/Contents 4 0 R /Resources << /Font << /F1 5 0 R >> >> >>\nendobj\n");
-
-            // Preparar contenido
-            StringBuilder content = new StringBuilder();
-            content.append("BT /F1 12 Tf 40 750 Td (Reporte de Ordenamiento) Tj ET\n");
-            float y = 730;
-            content.append("BT /F1 10 Tf 40 ").append(y).append(" Td (TIPO     ESTRATEGIA                   TIEMPO_MS   ITERACIONES) Tj ET\n");
-
-            y -= 15;
-            for (ResultadoOrdenamiento r : resultados) {
-                String line = String.format("%s %s %.3f %d",
-                        r.getType(),
-                        r.getStrategy().length() > 25 ? r.getStrategy().substring(0, 25) : r.getStrategy(),
-                        r.getTimeElapsedMillis(),
-                        r.getIterations());
-
-                // Escapar caracteres especiales en texto PDF
-                line = escapePDFString(line);
-                content.append("BT /F1 10 Tf 40 ").append(y).append(" Td (").append(line).append(") Tj ET\n");
-                y -= 15;
-            }
-
-            // Objeto 4: Contenido
-            objectPositions.add(pdfContent.length());
-            String streamContent = content.toString();
-            pdfContent.append("4 0 obj\n<< /Length ").append(streamContent.length()).append(" >>\nstream\n")
-                    .append(streamContent)
-                    .append("\nendstream\nendobj\n");
-
-            // Objeto 5: Fuente
-            objectPositions.add(pdfContent.length());
-            pdfContent.append("5 0 obj\n<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica >>\nendobj\n");
-
-            // Tabla xref
-            int xrefPosition = pdfContent.length();
-            pdfContent.append("xref\n0 6\n0000000000 65535 f \n");
-
-            for (int pos : objectPositions) {
-                pdfContent.append(String.format("%010d 00000 n \n", pos));
-            }
-
-            // Trailer
-            pdfContent.append("trailer\n<< /Size 6 /Root 1 0 R >>\n")
-                    .append("startxref\n").append(xrefPosition).append("\n%%EOF");
-
-            // Escribir el contenido al archivo
-            fos.write(pdfContent.toString().getBytes(StandardCharsets.US_ASCII));
+        try (EscritorPDF pdf = EscritorPDF.abrir(archivo.toPath(), "Reporte de Ordenamiento")) {
+            pdf.escribirTodos(resultados);
         }
     }
 
-    private String escapePDFString(String text) {
-        // Escapar caracteres especiales en strings PDF
-        return text.replace("\\", "\\\\")
-                .replace("(", "\\(")
-                .replace(")", "\\)")
-                .replace("\r", "\\r")
-                .replace("\n", "\\n");
-    }
-
     private String adaptarRuta(String ruta) {
         // Reemplazar cualquier marcador de usuario con el directorio home real
         ruta = ruta.replace("%USER%", System.getProperty("user.home"));
@@ -0,0 +1,210 @@
+package com.mycompany.sort.export;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escritor CSV con búfer para resultados de ordenamiento.
+ * <p>
+ * Da formato a los números sin {@link String#format} reutilizando un único {@link StringBuilder},
+ * por lo que no genera basura por fila. Implementa {@link Consumer} para poder pasarse como oyente
+ * a la simulación y escribir cada resultado en cuanto termina su celda.
+ * </p>
+ * <p>
+ * Al anexar sobre un archivo existente el encabezado solo se escribe si el archivo está vacío.
+ * En modo gzip cada apertura añade un miembro gzip nuevo, que {@code gzip -d} y
+ * {@link java.util.zip.GZIPInputStream} leen como un único flujo continuo.
+ * </p>
+ */
+public class EscritorCSV implements Consumer<ResultadoOrdenamiento>, Flushable, Closeable {
+
+    /**
+     * Columnas del archivo, en el orden en que se escriben. Las cuatro primeras son las del formato
+     * original; las demás van detrás para no desplazarlas.
+     */
+    public static final String ENCABEZADO = "TIPO,ESTRATEGIA,TIEMPO_MS,ITERACIONES,TAMANIO,MEDICIONES,"
+            + "MIN_MS,MEDIA_MS,MEDIANA_MS,P90_MS,P99_MS,DESV_MS,BYTES_ASIGNADOS,GC_COLECCIONES,GC_PAUSA_MS,"
+            + "PASADAS,MOVIMIENTOS,RESPALDOS";
+
+    private static final int TAMANIO_BUFER = 64 * 1024;
+
+    private final Writer destino;
+    private final StringBuilder linea = new StringBuilder(256);
+    private long filas;
+
+    /**
+     * Crea un escritor sobre un destino ya abierto. Al cerrarlo se cierra también el destino.
+     *
+     * @param destino            Destino de caracteres; se envuelve en un búfer si no lo tiene
+     * @param escribirEncabezado Indica si se escribe la fila de encabezado
+     * @throws IOException Si falla la escritura del encabezado
+     */
+    public EscritorCSV(Writer destino, boolean escribirEncabezado) throws IOException {
+        this.destino = destino instanceof BufferedWriter ? destino : new BufferedWriter(destino, TAMANIO_BUFER);
+        if (escribirEncabezado) {
+            this.destino.write(ENCABEZADO);
+            this.destino.write('\n');
+        }
+    }
+
+    /**
+     * Abre un archivo CSV a través de un {@link FileChannel}.
+     *
+     * @param ruta   Archivo de destino; se crea si no existe
+     * @param anexar {@code true} para añadir filas al final, {@code false} para reemplazar el contenido
+     * @param gzip   {@code true} para comprimir la salida con gzip
+     * @return Escritor listo para recibir resultados
+     * @throws IOException Si el archivo no se puede abrir
+     */
+    public static EscritorCSV abrir(Path ruta, boolean anexar, boolean gzip) throws IOException {
+        FileChannel canal = anexar
+                ? FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)
+                : FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            boolean nuevo = canal.size() == 0;
+            OutputStream salida = Channels.newOutputStream(canal);
+            if (gzip) {
+                salida = new GZIPOutputStream(salida, TAMANIO_BUFER);
+            }
+            Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), TAMANIO_BUFER);
+            return new EscritorCSV(escritor, nuevo);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Escribe una fila con el resultado.
+     *
+     * @param r Resultado con contexto
+     * @throws IOException Si falla la escritura
+     */
+    public synchronized void escribir(ResultadoOrdenamiento r) throws IOException {
+        StringBuilder sb = linea;
+        sb.setLength(0);
+        anexarTexto(sb, r.getType()).append(',');
+        anexarTexto(sb, r.getStrategy()).append(',');
+        anexarDecimal(sb, r.getTimeElapsedMillis()).append(',');
+        sb.append(r.getIterations()).append(',');
+        sb.append(r.getSize()).append(',');
+        sb.append(r.getMediciones()).append(',');
+        anexarDecimal(sb, r.getMinMillis()).append(',');
+        anexarDecimal(sb, r.getMediaMillis()).append(',');
+        anexarDecimal(sb, r.getMedianaMillis()).append(',');
+        anexarDecimal(sb, r.getP90Millis()).append(',');
+        anexarDecimal(sb, r.getP99Millis()).append(',');
+        anexarDecimal(sb, r.getDesviacionMillis()).append(',');
+        sb.append(r.getBytesAsignados()).append(',');
+        sb.append(r.getGcColecciones()).append(',');
+        sb.append(r.getGcPausaMillis()).append(',');
+        sb.append(r.getPasadas()).append(',');
+        sb.append(r.getMovimientos()).append(',');
+        sb.append(r.getRespaldos()).append('\n');
+        destino.append(sb);
+        filas++;
+    }
+
+    /**
+     * Escribe todos los resultados en orden.
+     *
+     * @param resultados Resultados con contexto
+     * @throws IOException Si falla la escritura
+     */
+    public void escribirTodos(Iterable<ResultadoOrdenamiento> resultados) throws IOException {
+        for (ResultadoOrdenamiento r : resultados) {
+            escribir(r);
+        }
+    }
+
+    /**
+     * Variante para usar el escritor como oyente de la simulación.
+     *
+     * @throws UncheckedIOException Si falla la escritura
+     */
+    @Override
+    public void accept(ResultadoOrdenamiento r) {
+        try {
+            escribir(r);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Cantidad de filas de datos escritas (sin contar el encabezado)
+     */
+    public synchronized long getFilas() {
+        return filas;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        destino.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        destino.close();
+    }
+
+    /**
+     * Añade el texto entre comillas solo si contiene separadores o comillas.
+     */
+    private static StringBuilder anexarTexto(StringBuilder sb, String texto) {
+        if (texto == null) {
+            return sb;
+        }
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0) {
+            return sb.append(texto);
+        }
+        sb.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+
+    /**
+     * Añade el valor con tres decimales fijos y punto decimal, equivalente a {@code %.3f} con
+     * {@link java.util.Locale#ROOT} (redondeo a la mitad hacia arriba).
+     */
+    static StringBuilder anexarDecimal(StringBuilder sb, double valor) {
+        if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+            return sb.append(valor);
+        }
+        long escalado = Math.round(Math.abs(valor) * 1000);
+        if (valor < 0 && escalado != 0) {
+            sb.append('-');
+        }
+        long fraccion = escalado % 1000;
+        sb.append(escalado / 1000).append('.');
+        if (fraccion < 100) {
+            sb.append('0');
+        }
+        if (fraccion < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraccion);
+    }
+}
@@ -0,0 +1,347 @@
+package com.mycompany.sort.export;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Generador de reportes PDF que escribe cada objeto directamente en el destino.
+ * <p>
+ * Las posiciones de la tabla xref se toman contando los bytes a medida que se escriben, así que
+ * el documento nunca se arma completo en memoria: solo se mantiene el contenido de la página en
+ * curso y dos enteros por página (posición del objeto y número del objeto página). Cuando la
+ * página se llena se escribe y se abre otra con el título y el encabezado de columnas.
+ * </p>
+ * <p>
+ * Números de objeto: 1 catálogo, 2 árbol de páginas, 3 fuente; a partir del 4 cada página ocupa
+ * un par (contenido, página). El catálogo y el árbol de páginas se escriben al cerrar.
+ * </p>
+ */
+public class EscritorPDF implements Consumer<ResultadoOrdenamiento>, Closeable {
+
+    private static final int ANCHO_PAGINA = 612;
+    private static final int ALTO_PAGINA = 792;
+    private static final int MARGEN_IZQUIERDO = 40;
+    private static final int Y_TITULO = 750;
+    private static final int Y_ENCABEZADO = 730;
+    private static final int Y_PRIMERA_FILA = 716;
+    private static final int Y_MINIMA = 40;
+    private static final int ALTO_FILA = 11;
+    private static final int TAMANIO_FUENTE = 7;
+    private static final int MAX_ESTRATEGIA = 38;
+
+    private static final String[] COLUMNAS = {"TIPO", "TAMANIO", "ESTRATEGIA", "TIEMPO_MS", "ITERACIONES",
+            "N", "MIN", "MEDIANA", "P90", "P99", "DESV", "KB", "GC", "GC_MS"};
+    /** Desplazamiento horizontal desde el inicio de cada columna hasta la siguiente. */
+    private static final int[] ANCHOS = {42, 36, 140, 38, 46, 14, 34, 34, 34, 34, 30, 30, 14, 0};
+
+    private static final int OBJ_CATALOGO = 1;
+    private static final int OBJ_PAGINAS = 2;
+    private static final int OBJ_FUENTE = 3;
+
+    private final SalidaContada salida;
+    private final String titulo;
+    private final StringBuilder contenido = new StringBuilder(8 * 1024);
+    private final StringBuilder celda = new StringBuilder(64);
+
+    private long[] posiciones = new long[16];
+    private int siguienteObjeto = OBJ_FUENTE + 1;
+    private int[] paginas = new int[8];
+    private int cantidadPaginas;
+    private int filasPagina;
+    private float y;
+    private boolean cerrado;
+
+    /**
+     * Crea un escritor sobre un flujo ya abierto y escribe el encabezado del documento.
+     * Al cerrarlo se completa el documento y se cierra el flujo.
+     *
+     * @param destino Flujo de bytes de destino
+     * @param titulo  Título que se repite en cada página
+     * @throws IOException Si falla la escritura
+     */
+    public EscritorPDF(OutputStream destino, String titulo) throws IOException {
+        this.salida = new SalidaContada(new BufferedOutputStream(destino, 64 * 1024));
+        this.titulo = titulo;
+        escribirAscii("%PDF-1.4\n");
+        iniciarObjeto(OBJ_FUENTE);
+        escribirAscii("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>\nendobj\n");
+    }
+
+    /**
+     * Abre un archivo PDF a través de un {@link FileChannel}, reemplazando su contenido.
+     *
+     * @param ruta   Archivo de destino
+     * @param titulo Título que se repite en cada página
+     * @return Escritor listo para recibir resultados
+     * @throws IOException Si el archivo no se puede abrir
+     */
+    public static EscritorPDF abrir(Path ruta, String titulo) throws IOException {
+        FileChannel canal = FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new EscritorPDF(Channels.newOutputStream(canal), titulo);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Añade una fila con el resultado, pasando a una página nueva si la actual está llena.
+     *
+     * @param r Resultado con contexto
+     * @throws IOException Si falla la escritura de una página completa
+     */
+    public synchronized void escribir(ResultadoOrdenamiento r) throws IOException {
+        if (cerrado) {
+            throw new IOException("El documento ya fue cerrado");
+        }
+        if (filasPagina > 0 && y < Y_MINIMA) {
+            terminarPagina();
+        }
+        if (filasPagina == 0) {
+            iniciarPagina();
+        }
+
+        String estrategia = r.getStrategy() == null ? "" : r.getStrategy();
+        if (estrategia.length() > MAX_ESTRATEGIA) {
+            estrategia = estrategia.substring(0, MAX_ESTRATEGIA);
+        }
+
+        contenido.append("BT /F1 ").append(TAMANIO_FUENTE).append(" Tf ")
+                .append(MARGEN_IZQUIERDO).append(' ').append(y).append(" Td");
+        int columna = 0;
+        celda.setLength(0);
+        columna = anexarCelda(columna, celda.append(r.getType() == null ? "" : r.getType()));
+        columna = anexarCelda(columna, celda.append(r.getSize()));
+        columna = anexarCelda(columna, celda.append(estrategia));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getTimeElapsedMillis()));
+        columna = anexarCelda(columna, celda.append(r.getIterations()));
+        columna = anexarCelda(columna, celda.append(r.getMediciones()));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getMinMillis()));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getMedianaMillis()));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getP90Millis()));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getP99Millis()));
+        columna = anexarCelda(columna, EscritorCSV.anexarDecimal(celda, r.getDesviacionMillis()));
+        columna = anexarCelda(columna, celda.append(r.getBytesAsignados() / 1024));
+        columna = anexarCelda(columna, celda.append(r.getGcColecciones()));
+        anexarCelda(columna, celda.append(r.getGcPausaMillis()));
+        contenido.append(" ET\n");
+
+        filasPagina++;
+        y -= ALTO_FILA;
+    }
+
+    /**
+     * Añade todas las filas en orden.
+     *
+     * @param resultados Resultados con contexto
+     * @throws IOException Si falla la escritura
+     */
+    public void escribirTodos(Iterable<ResultadoOrdenamiento> resultados) throws IOException {
+        for (ResultadoOrdenamiento r : resultados) {
+            escribir(r);
+        }
+    }
+
+    /**
+     * Variante para usar el escritor como oyente de la simulación.
+     *
+     * @throws UncheckedIOException Si falla la escritura
+     */
+    @Override
+    public void accept(ResultadoOrdenamiento r) {
+        try {
+            escribir(r);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Páginas escritas hasta el momento, incluida la página en curso
+     */
+    public synchronized int getPaginas() {
+        return cantidadPaginas + (filasPagina > 0 ? 1 : 0);
+    }
+
+    /**
+     * Escribe la última página, el árbol de páginas, el catálogo, la tabla xref y el trailer,
+     * y cierra el destino. Un documento sin filas contiene una página con el encabezado.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        cerrado = true;
+        try {
+            if (filasPagina == 0 && cantidadPaginas == 0) {
+                iniciarPagina();
+            }
+            if (filasPagina > 0 || contenido.length() > 0) {
+                terminarPagina();
+            }
+
+            iniciarObjeto(OBJ_PAGINAS);
+            StringBuilder kids = new StringBuilder("<< /Type /Pages /Kids [");
+            for (int i = 0; i < cantidadPaginas; i++) {
+                kids.append(i == 0 ? "" : " ").append(paginas[i]).append(" 0 R");
+            }
+            kids.append("] /Count ").append(cantidadPaginas).append(" >>\nendobj\n");
+            escribirAscii(kids);
+
+            iniciarObjeto(OBJ_CATALOGO);
+            escribirAscii("<< /Type /Catalog /Pages " + OBJ_PAGINAS + " 0 R >>\nendobj\n");
+
+            long inicioXref = salida.posicion;
+            StringBuilder xref = new StringBuilder(32 + 20 * siguienteObjeto);
+            xref.append("xref\n0 ").append(siguienteObjeto).append("\n0000000000 65535 f \n");
+            for (int obj = 1; obj < siguienteObjeto; obj++) {
+                String pos = Long.toString(posiciones[obj]);
+                for (int i = pos.length(); i < 10; i++) {
+                    xref.append('0');
+                }
+                xref.append(pos).append(" 00000 n \n");
+            }
+            xref.append("trailer\n<< /Size ").append(siguienteObjeto).append(" /Root ").append(OBJ_CATALOGO)
+                    .append(" 0 R >>\nstartxref\n").append(inicioXref).append("\n%%EOF\n");
+            escribirAscii(xref);
+        } finally {
+            salida.close();
+        }
+    }
+
+    private void iniciarPagina() {
+        contenido.setLength(0);
+        contenido.append("BT /F1 12 Tf ").append(MARGEN_IZQUIERDO).append(' ').append(Y_TITULO).append(" Td (");
+        escapar(contenido, titulo);
+        contenido.append(") Tj ET\n");
+        contenido.append("BT /F1 8 Tf ").append(ANCHO_PAGINA - 100).append(' ').append(Y_TITULO)
+                .append(" Td (P\\341gina ").append(cantidadPaginas + 1).append(") Tj ET\n");
+
+        contenido.append("BT /F1 ").append(TAMANIO_FUENTE).append(" Tf ")
+                .append(MARGEN_IZQUIERDO).append(' ').append(Y_ENCABEZADO).append(" Td");
+        int columna = 0;
+        for (String nombre : COLUMNAS) {
+            celda.setLength(0);
+            columna = anexarCelda(columna, celda.append(nombre));
+        }
+        contenido.append(" ET\n");
+        y = Y_PRIMERA_FILA;
+    }
+
+    /**
+     * Escribe el contenido de la página en curso y su objeto página.
+     */
+    private void terminarPagina() throws IOException {
+        int objContenido = siguienteObjeto++;
+        int objPagina = siguienteObjeto++;
+
+        iniciarObjeto(objContenido);
+        byte[] flujo = contenido.toString().getBytes(StandardCharsets.ISO_8859_1);
+        escribirAscii("<< /Length " + flujo.length + " >>\nstream\n");
+        salida.write(flujo);
+        escribirAscii("\nendstream\nendobj\n");
+
+        iniciarObjeto(objPagina);
+        escribirAscii("<< /Type /Page /Parent " + OBJ_PAGINAS + " 0 R /MediaBox [0 0 " + ANCHO_PAGINA + " "
+                + ALTO_PAGINA + "] /Contents " + objContenido + " 0 R /Resources << /Font << /F1 "
+                + OBJ_FUENTE + " 0 R >> >> >>\nendobj\n");
+
+        if (cantidadPaginas == paginas.length) {
+            paginas = Arrays.copyOf(paginas, paginas.length * 2);
+        }
+        paginas[cantidadPaginas++] = objPagina;
+        contenido.setLength(0);
+        filasPagina = 0;
+    }
+
+    /**
+     * Escribe el texto acumulado en {@code celda} en la columna indicada y avanza a la siguiente.
+     *
+     * @return Índice de la columna siguiente
+     */
+    private int anexarCelda(int columna, StringBuilder texto) {
+        contenido.append(" (");
+        escapar(contenido, texto);
+        contenido.append(") Tj");
+        if (ANCHOS[columna] > 0) {
+            contenido.append(' ').append(ANCHOS[columna]).append(" 0 Td");
+        }
+        texto.setLength(0);
+        return columna + 1;
+    }
+
+    private void iniciarObjeto(int numero) throws IOException {
+        if (numero >= posiciones.length) {
+            posiciones = Arrays.copyOf(posiciones, Math.max(numero + 1, posiciones.length * 2));
+        }
+        posiciones[numero] = salida.posicion;
+        escribirAscii(numero + " 0 obj\n");
+    }
+
+    private void escribirAscii(CharSequence texto) throws IOException {
+        salida.write(texto.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Escapa los caracteres especiales de las cadenas literales de PDF.
+     */
+    private static void escapar(StringBuilder destino, CharSequence texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '\\':
+                case '(':
+                case ')':
+                    destino.append('\\').append(c);
+                    break;
+                case '\r':
+                    destino.append("\\r");
+                    break;
+                case '\n':
+                    destino.append("\\n");
+                    break;
+                default:
+                    destino.append(c);
+            }
+        }
+    }
+
+    /**
+     * Flujo que lleva la cuenta de los bytes escritos para calcular las posiciones de la tabla xref.
+     */
+    private static final class SalidaContada extends FilterOutputStream {
+        private long posicion;
+
+        SalidaContada(OutputStream destino) {
+            super(destino);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            posicion++;
+        }
+
+        @Override
+        public void write(byte[] b, int desde, int longitud) throws IOException {
+            out.write(b, desde, longitud);
+            posicion += longitud;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mycompany.sort.model;
+
+import java.util.Arrays;
+
+/**
+ * Arreglos auxiliares reutilizables por hilo para las estrategias que ordenan a través de un
+ * arreglo. Cada hilo conserva su arreglo entre ordenamientos, así que ordenar repetidamente listas
+ * del mismo tamaño o menores no reserva memoria para recoger los nodos (el ordenamiento que se
+ * haga sobre el arreglo puede reservar su propio espacio auxiliar).
+ * <p>
+ * El arreglo solo crece: un hilo que ordenó una lista grande retiene un arreglo de ese tamaño
+ * hasta que termina o llama a {@link #liberar()}. Tras cada uso hay que llamar a
+ * {@link #soltar(Object[], int)} para no retener los nodos de la lista ordenada.
+ * </p>
+ */
+public final class ArreglosDeTrabajo {
+
+    private static final ThreadLocal<Object[]> ARREGLO = ThreadLocal.withInitial(() -> new Object[0]);
+
+    private ArreglosDeTrabajo() {
+    }
+
+    /**
+     * Devuelve el arreglo del hilo actual, ampliándolo si tiene menos de {@code tamanno} casillas.
+     * Las casillas vienen en {@code null}.
+     *
+     * @param tamanno Casillas que se van a usar
+     * @return Arreglo de al menos {@code tamanno} casillas
+     */
+    public static Object[] obtener(int tamanno) {
+        Object[] arreglo = ARREGLO.get();
+        if (arreglo.length < tamanno) {
+            arreglo = new Object[tamanno];
+            ARREGLO.set(arreglo);
+        }
+        return arreglo;
+    }
+
+    /**
+     * Borra las primeras {@code usadas} casillas del arreglo para que no retenga sus elementos.
+     *
+     * @param arreglo Arreglo obtenido con {@link #obtener(int)}
+     * @param usadas  Casillas que se usaron
+     */
+    public static void soltar(Object[] arreglo, int usadas) {
+        Arrays.fill(arreglo, 0, usadas, null);
+    }
+
+    /**
+     * Descarta el arreglo del hilo actual.
+     */
+    public static void liberar() {
+        ARREGLO.remove();
+    }
+}
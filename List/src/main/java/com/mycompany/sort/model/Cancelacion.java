@@ -0,0 +1,26 @@
+package com.mycompany.sort.model;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Punto de control de cancelación cooperativa para las estrategias de ordenamiento.
+ * Las estrategias lo invocan en sus ciclos externos o en cada llamada recursiva; si el hilo
+ * que ejecuta el ordenamiento fue interrumpido (por ejemplo al cancelar la simulación desde la
+ * interfaz), el ordenamiento se detiene lanzando {@link CancellationException}.
+ */
+public final class Cancelacion {
+
+    private Cancelacion() {
+    }
+
+    /**
+     * Comprueba si el hilo actual fue interrumpido.
+     *
+     * @throws CancellationException si se solicitó la cancelación del hilo actual
+     */
+    public static void verificar() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Ordenamiento cancelado");
+        }
+    }
+}
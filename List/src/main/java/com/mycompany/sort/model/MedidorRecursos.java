@@ -0,0 +1,80 @@
+package com.mycompany.sort.model;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Mide los recursos consumidos por una ejecución de ordenamiento: bytes asignados por el hilo
+ * actual (mediante {@link com.sun.management.ThreadMXBean}) y colecciones de basura ocurridas
+ * durante la ejecución, con su tiempo de pausa acumulado.
+ * <p>
+ * Los bytes asignados son exactos para el hilo que ordena, pero no incluyen lo que asignan otros
+ * hilos en su nombre: las estrategias que trabajan en un {@link java.util.concurrent.ForkJoinPool},
+ * como el merge sort paralelo o las que usan {@link java.util.Arrays#parallelSort}, informan menos
+ * memoria de la que realmente usan. Los contadores de GC son globales de la JVM, por lo que en
+ * una simulación paralela incluyen las colecciones provocadas por otras celdas.
+ * </p>
+ */
+public final class MedidorRecursos {
+
+    private static final com.sun.management.ThreadMXBean HILOS = obtenerBeanHilos();
+
+    private final long bytesInicio;
+    private final long coleccionesInicio;
+    private final long pausaInicioMillis;
+
+    private MedidorRecursos() {
+        this.bytesInicio = bytesAsignadosHiloActual();
+        long colecciones = 0;
+        long pausa = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            colecciones += Math.max(0, gc.getCollectionCount());
+            pausa += Math.max(0, gc.getCollectionTime());
+        }
+        this.coleccionesInicio = colecciones;
+        this.pausaInicioMillis = pausa;
+    }
+
+    /**
+     * Toma la instantánea inicial. Debe llamarse desde el hilo que ejecutará el ordenamiento.
+     *
+     * @return Medidor listo para {@link #detener(ResultadoOrdenamiento)}
+     */
+    public static MedidorRecursos iniciar() {
+        return new MedidorRecursos();
+    }
+
+    /**
+     * Calcula los recursos consumidos desde {@link #iniciar()} y los añade al resultado.
+     * Debe llamarse desde el mismo hilo que llamó a {@link #iniciar()}.
+     *
+     * @param resultado Resultado crudo de la estrategia
+     * @return Copia del resultado con bytes asignados, colecciones y pausa de GC
+     */
+    public ResultadoOrdenamiento detener(ResultadoOrdenamiento resultado) {
+        long bytes = bytesInicio < 0 ? 0 : Math.max(0, bytesAsignadosHiloActual() - bytesInicio);
+        long colecciones = 0;
+        long pausa = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            colecciones += Math.max(0, gc.getCollectionCount());
+            pausa += Math.max(0, gc.getCollectionTime());
+        }
+        return resultado.withRecursos(bytes, colecciones - coleccionesInicio, pausa - pausaInicioMillis);
+    }
+
+    private static long bytesAsignadosHiloActual() {
+        return HILOS != null ? HILOS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean obtenerBeanHilos() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean hilos && hilos.isThreadAllocatedMemorySupported()) {
+            if (!hilos.isThreadAllocatedMemoryEnabled()) {
+                hilos.setThreadAllocatedMemoryEnabled(true);
+            }
+            return hilos;
+        }
+        return null;
+    }
+}
@@ -1,5 +1,8 @@
 package com.mycompany.sort.model;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Clase que encapsula el resultado de la ejecución de una estrategia de ordenamiento.
  * Puede representar métricas crudas o con contexto (tipo de dato, tamaño, nombre del algoritmo).
@@ -10,6 +13,18 @@ public class ResultadoOrdenamiento {
     private final String strategy;           // Nombre de la estrategia de ordenamiento
     private final long iterations;           // Número total de iteraciones/comparaciones
     private final double timeElapsedMillis;    // Tiempo total transcurrido en milisegundos
+    private final int mediciones;            // Cantidad de ejecuciones medidas que resume este resultado
+    private final double minMillis;          // Tiempo mínimo entre las ejecuciones medidas
+    private final double medianaMillis;      // Mediana de los tiempos medidos
+    private final double p90Millis;          // Percentil 90 de los tiempos medidos
+    private final double p99Millis;          // Percentil 99 de los tiempos medidos
+    private final double desviacionMillis;   // Desviación estándar muestral de los tiempos medidos
+    private final long bytesAsignados;       // Bytes asignados por el hilo durante el ordenamiento (media por ejecución)
+    private final long gcColecciones;        // Colecciones de basura ocurridas durante las ejecuciones medidas
+    private final long gcPausaMillis;        // Tiempo acumulado de GC durante las ejecuciones medidas
+    private final int pasadas;               // Pasadas de distribución (estrategias sin comparaciones)
+    private final long movimientos;          // Nodos reenlazados durante el ordenamiento
+    private final int respaldos;             // Veces que la estrategia recurrió a su algoritmo de respaldo
 
     /**
      * Constructor completo. Se usa cuando se quiere asociar contexto al resultado.
@@ -21,6 +36,16 @@ public class ResultadoOrdenamiento {
      * @param timeElapsedMillis Tiempo total en milisegundos
      */
     public ResultadoOrdenamiento(String type, int size, String strategy, long iterations, double timeElapsedMillis) {
+        this(type, size, strategy, iterations, timeElapsedMillis,
+                1, timeElapsedMillis, timeElapsedMillis, timeElapsedMillis, timeElapsedMillis, 0,
+                0, 0, 0, 0, 0, 0);
+    }
+
+    private ResultadoOrdenamiento(String type, int size, String strategy, long iterations, double timeElapsedMillis,
+                                  int mediciones, double minMillis, double medianaMillis,
+                                  double p90Millis, double p99Millis, double desviacionMillis,
+                                  long bytesAsignados, long gcColecciones, long gcPausaMillis,
+                                  int pasadas, long movimientos, int respaldos) {
         if (iterations < 0 || timeElapsedMillis < 0) {
             throw new IllegalArgumentException("Iteraciones o tiempo no pueden ser negativos");
         }
@@ -29,6 +54,18 @@ public class ResultadoOrdenamiento {
         this.strategy = strategy;
         this.iterations = iterations;
         this.timeElapsedMillis = timeElapsedMillis;
+        this.mediciones = mediciones;
+        this.minMillis = minMillis;
+        this.medianaMillis = medianaMillis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.desviacionMillis = desviacionMillis;
+        this.bytesAsignados = bytesAsignados;
+        this.gcColecciones = gcColecciones;
+        this.gcPausaMillis = gcPausaMillis;
+        this.pasadas = pasadas;
+        this.movimientos = movimientos;
+        this.respaldos = respaldos;
     }
 
     /**
@@ -50,7 +87,106 @@ public class ResultadoOrdenamiento {
      * @return Un nuevo objeto ResultadoOrdenamiento con contexto
      */
     public ResultadoOrdenamiento withContext(String type, int size, String strategy) {
-        return new ResultadoOrdenamiento(type, size, strategy, this.iterations, this.timeElapsedMillis);
+        return new ResultadoOrdenamiento(type, size, strategy, this.iterations, this.timeElapsedMillis,
+                this.mediciones, this.minMillis, this.medianaMillis, this.p90Millis, this.p99Millis,
+                this.desviacionMillis, this.bytesAsignados, this.gcColecciones, this.gcPausaMillis,
+                this.pasadas, this.movimientos, this.respaldos);
+    }
+
+    /**
+     * Añade al resultado los recursos consumidos durante el ordenamiento.
+     *
+     * @param bytesAsignados Bytes asignados por el hilo que ordenó
+     * @param gcColecciones  Colecciones de basura ocurridas durante el ordenamiento
+     * @param gcPausaMillis  Tiempo de GC en milisegundos durante el ordenamiento
+     * @return Un nuevo objeto ResultadoOrdenamiento con los recursos registrados
+     */
+    public ResultadoOrdenamiento withRecursos(long bytesAsignados, long gcColecciones, long gcPausaMillis) {
+        return new ResultadoOrdenamiento(type, size, strategy, iterations, timeElapsedMillis,
+                mediciones, minMillis, medianaMillis, p90Millis, p99Millis, desviacionMillis,
+                bytesAsignados, gcColecciones, gcPausaMillis, pasadas, movimientos, respaldos);
+    }
+
+    /**
+     * Añade al resultado el trabajo de una estrategia que distribuye nodos en lugar de compararlos.
+     *
+     * @param pasadas     Pasadas de distribución realizadas
+     * @param movimientos Nodos reenlazados en total
+     * @return Un nuevo objeto ResultadoOrdenamiento con las pasadas y movimientos registrados
+     */
+    public ResultadoOrdenamiento withMovimientos(int pasadas, long movimientos) {
+        return new ResultadoOrdenamiento(type, size, strategy, iterations, timeElapsedMillis,
+                mediciones, minMillis, medianaMillis, p90Millis, p99Millis, desviacionMillis,
+                bytesAsignados, gcColecciones, gcPausaMillis, pasadas, movimientos, respaldos);
+    }
+
+    /**
+     * Añade al resultado cuántas veces la estrategia abandonó su algoritmo principal por el de respaldo.
+     *
+     * @param respaldos Veces que se usó el algoritmo de respaldo
+     * @return Un nuevo objeto ResultadoOrdenamiento con los respaldos registrados
+     */
+    public ResultadoOrdenamiento withRespaldos(int respaldos) {
+        return new ResultadoOrdenamiento(type, size, strategy, iterations, timeElapsedMillis,
+                mediciones, minMillis, medianaMillis, p90Millis, p99Millis, desviacionMillis,
+                bytesAsignados, gcColecciones, gcPausaMillis, pasadas, movimientos, respaldos);
+    }
+
+    /**
+     * Resume varias ejecuciones medidas de la misma estrategia en un único resultado.
+     * El tiempo principal ({@link #getTimeElapsedMillis()}) pasa a ser la media, y las iteraciones
+     * son el promedio redondeado de las muestras. Los bytes asignados se promedian por ejecución,
+     * mientras que las colecciones y la pausa de GC se suman. Las pasadas, los movimientos y los
+     * respaldos dependen de los datos, así que se toman de la primera muestra.
+     *
+     * @param muestras Resultados crudos de cada ejecución medida (al menos uno)
+     * @return Resultado con mínimo, media, mediana, p90, p99 y desviación estándar
+     * @throws IllegalArgumentException si no hay muestras
+     */
+    public static ResultadoOrdenamiento agregar(List<ResultadoOrdenamiento> muestras) {
+        if (muestras.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos una muestra");
+        }
+        int n = muestras.size();
+        double[] tiempos = new double[n];
+        double suma = 0;
+        long sumaIteraciones = 0;
+        long sumaBytes = 0;
+        long colecciones = 0;
+        long pausa = 0;
+        for (int i = 0; i < n; i++) {
+            ResultadoOrdenamiento muestra = muestras.get(i);
+            tiempos[i] = muestra.timeElapsedMillis;
+            suma += tiempos[i];
+            sumaIteraciones += muestra.iterations;
+            sumaBytes += muestra.bytesAsignados;
+            colecciones += muestra.gcColecciones;
+            pausa += muestra.gcPausaMillis;
+        }
+        Arrays.sort(tiempos);
+
+        double media = suma / n;
+        double sumaCuadrados = 0;
+        for (double t : tiempos) {
+            sumaCuadrados += (t - media) * (t - media);
+        }
+        double desviacion = n > 1 ? Math.sqrt(sumaCuadrados / (n - 1)) : 0;
+        double mediana = n % 2 == 1 ? tiempos[n / 2] : (tiempos[n / 2 - 1] + tiempos[n / 2]) / 2;
+
+        ResultadoOrdenamiento base = muestras.get(0);
+        return new ResultadoOrdenamiento(base.type, base.size, base.strategy,
+                Math.round((double) sumaIteraciones / n), media,
+                n, tiempos[0], mediana, percentil(tiempos, 0.90), percentil(tiempos, 0.99), desviacion,
+                Math.round((double) sumaBytes / n), colecciones, pausa, base.pasadas, base.movimientos,
+                base.respaldos);
+    }
+
+    /**
+     * Percentil por el método del rango más cercano sobre un arreglo ya ordenado.
+     */
+    private static double percentil(double[] ordenados, double p) {
+        int indice = (int) Math.ceil(p * ordenados.length) - 1;
+        return ordenados[Math.max(0, Math.min(indice, ordenados.length - 1))];
     }
 
     // ======== Getters ========
@@ -65,6 +201,53 @@ public class ResultadoOrdenamiento {
 
     public double getTimeElapsedMillis() { return timeElapsedMillis; }
 
+    public int getMediciones() { return mediciones; }
+
+    public double getMinMillis() { return minMillis; }
+
+    /**
+     * @return Tiempo medio de las ejecuciones medidas (igual a {@link #getTimeElapsedMillis()})
+     */
+    public double getMediaMillis() { return timeElapsedMillis; }
+
+    public double getMedianaMillis() { return medianaMillis; }
+
+    public double getP90Millis() { return p90Millis; }
+
+    public double getP99Millis() { return p99Millis; }
+
+    public double getDesviacionMillis() { return desviacionMillis; }
+
+    /**
+     * @return Bytes asignados por el hilo durante un ordenamiento (media de las ejecuciones medidas)
+     */
+    public long getBytesAsignados() { return bytesAsignados; }
+
+    /**
+     * @return Colecciones de basura durante las ejecuciones medidas (contador global de la JVM)
+     */
+    public long getGcColecciones() { return gcColecciones; }
+
+    /**
+     * @return Tiempo de GC acumulado en milisegundos durante las ejecuciones medidas
+     */
+    public long getGcPausaMillis() { return gcPausaMillis; }
+
+    /**
+     * @return Pasadas de distribución, o 0 si la estrategia ordena por comparaciones
+     */
+    public int getPasadas() { return pasadas; }
+
+    /**
+     * @return Nodos reenlazados durante el ordenamiento, o 0 si la estrategia no los registra
+     */
+    public long getMovimientos() { return movimientos; }
+
+    /**
+     * @return Veces que la estrategia recurrió a su algoritmo de respaldo, o 0 si no tiene
+     */
+    public int getRespaldos() { return respaldos; }
+
     /**
      * @return Tiempo en segundos con decimales
      */
@@ -0,0 +1,83 @@
+package com.mycompany.sort.model.SortingStrategy;
+
+import com.mycompany.sort.model.ArreglosDeTrabajo;
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
+import com.mycompany.sort.model.politico.Nodo;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ordenamiento asistido por arreglo para listas enlazadas simples.
+ * <p>
+ * Copia las referencias a los nodos en el arreglo de trabajo del hilo ({@link ArreglosDeTrabajo}),
+ * lo ordena con {@link Arrays#parallelSort(Object[], int, int, java.util.Comparator)} (estable y
+ * paralelo en el pool común para arreglos grandes) y vuelve a enlazar los nodos en ese orden. Los
+ * datos no se copian. Sirve como referencia frente a las estrategias escritas a mano y como
+ * opción por defecto para listas grandes.
+ * </p>
+ * <p>
+ * Solo el arreglo en que se recogen los nodos se reutiliza entre llamadas: {@code Arrays.parallelSort}
+ * sigue reservando en cada una su propio espacio auxiliar de fusión, de hasta n referencias.
+ * Las comparaciones ocurren dentro de {@code Arrays.parallelSort} y no se cuentan: las iteraciones
+ * informadas son 0 y los movimientos, los n nodos reenlazados. La cancelación se comprueba antes y
+ * después del ordenamiento del arreglo, no durante.
+ * </p>
+ */
+public class ArraySortingStrategy<T extends Comparable<T>> implements SortingStrategy<T> {
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaSimple<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        Object[] nodos = ArreglosDeTrabajo.obtener(n);
+        try {
+            Nodo<T> actual = lista.getCabeza();
+            for (int i = 0; i < n; i++) {
+                nodos[i] = actual;
+                actual = actual.getSiguiente();
+            }
+
+            Cancelacion.verificar();
+            Arrays.parallelSort(nodos, 0, n, this::comparar);
+            Cancelacion.verificar();
+
+            Nodo<T> cabeza = nodo(nodos[0]);
+            Nodo<T> anterior = cabeza;
+            for (int i = 1; i < n; i++) {
+                Nodo<T> siguiente = nodo(nodos[i]);
+                anterior.setSiguiente(siguiente);
+                anterior = siguiente;
+            }
+            anterior.setSiguiente(null);
+            lista.reemplazarNodos(cabeza, anterior, n);
+        } finally {
+            ArreglosDeTrabajo.soltar(nodos, n);
+        }
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(0, elapsedMillis).withMovimientos(0, n);
+    }
+
+    private int comparar(Object a, Object b) {
+        return nodo(a).getDato().compareTo(nodo(b).getDato());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Nodo<T> nodo(Object referencia) {
+        return (Nodo<T>) referencia;
+    }
+
+    @Override
+    public String getName() {
+        return "Arrays.parallelSort (Lista Enlazada)";
+    }
+}
@@ -0,0 +1,46 @@
+package com.mycompany.sort.model.SortingStrategy;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
+import com.mycompany.sort.model.politico.Nodo;
+
+import java.util.Objects;
+
+/**
+ * Merge sort ascendente (bottom-up) para listas enlazadas simples, al estilo de {@code list_sort}.
+ * <p>
+ * Consume la lista una sola vez, nodo por nodo, con {@link FusionAscendente}, que mantiene como un
+ * contador binario a lo sumo una corrida pendiente de cada tamaño 2<sup>k</sup>; al llegar una
+ * corrida del mismo tamaño que una pendiente se fusionan. A diferencia de
+ * {@link MergeSortingStrategy} no recorre la lista para dividirla ni para buscar colas: cada
+ * fusión devuelve también la cola de su resultado. Es estable, O(n log n), sin recursión y con
+ * memoria auxiliar constante.
+ * </p>
+ */
+public class BottomUpMergeSortingStrategy<T extends Comparable<T>> implements SortingStrategy<T> {
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaSimple<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        FusionAscendente<T> fusion = new FusionAscendente<>();
+        Nodo<T> cabeza = fusion.ordenar(lista.getCabeza());
+        Nodo<T> cola = fusion.getCola();
+
+        lista.reemplazarNodos(cabeza, cola, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(fusion.getComparaciones(), elapsedMillis);
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort Bottom-Up";
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategy;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.Politico;
 
@@ -37,6 +38,7 @@ public class BubbleSortingStrategy<T extends Comparable<T>> implements SortingSt
 
         boolean intercambiado;
         do {
+            Cancelacion.verificar();
             intercambiado = false;
             Nodo<T> actual = lista.getCabeza();
             Nodo<T> anterior = null;
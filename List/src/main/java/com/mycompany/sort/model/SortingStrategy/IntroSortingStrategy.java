@@ -0,0 +1,155 @@
+package com.mycompany.sort.model.SortingStrategy;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
+import com.mycompany.sort.model.politico.Nodo;
+
+import java.util.Objects;
+
+/**
+ * Introsort para listas enlazadas simples: quicksort con límite de profundidad y merge sort de respaldo.
+ * <p>
+ * Cada partición reenlaza los nodos del tramo en dos sublistas (menores y mayores que el pivote) y
+ * deja el pivote entre ambas; los iguales al pivote se reparten alternadamente entre las dos, de
+ * modo que los valores muy repetidos también producen particiones equilibradas. El pivote es la
+ * mediana del primero, el del medio y el último nodo del tramo, que la partición anterior registra
+ * al armar cada sublista, así que no se recorre el tramo para elegirlo. Si la recursión supera
+ * 2·log<sub>2</sub>(n) niveles, el tramo que la excedió se ordena con el merge sort ascendente de
+ * {@link BottomUpMergeSortingStrategy} y se cuenta como respaldo en
+ * {@link ResultadoOrdenamiento#getRespaldos()}. El peor caso es O(n log n) y la pila queda acotada
+ * por el mismo límite, a diferencia de {@link QuickSortingStrategy}.
+ * </p>
+ */
+public class IntroSortingStrategy<T extends Comparable<T>> implements SortingStrategy<T> {
+
+    private long iterations;
+    private int respaldos;
+    /** Cola del último tramo devuelto por {@link #ordenar}. */
+    private Nodo<T> colaOrdenada;
+    /** Merge sort de respaldo para los tramos que agotan la profundidad. */
+    private FusionAscendente<T> mezcla;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaSimple<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+        respaldos = 0;
+        mezcla = new FusionAscendente<>();
+
+        Nodo<T> cabeza = lista.getCabeza();
+        Nodo<T> medio = cabeza;
+        Nodo<T> cola = cabeza;
+        for (int i = 1; i < n; i++) {
+            cola = cola.getSiguiente();
+            if (i == (n - 1) / 2) {
+                medio = cola;
+            }
+        }
+        cola.setSiguiente(null);
+
+        int limite = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        cabeza = ordenar(cabeza, n, medio, cola, limite);
+        lista.reemplazarNodos(cabeza, colaOrdenada, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations + mezcla.getComparaciones(), elapsedMillis)
+                .withRespaldos(respaldos);
+    }
+
+    /**
+     * Ordena los {@code n} nodos que empiezan en {@code cabeza} y terminan en {@code cola}, con
+     * {@code medio} en la posición (n - 1) / 2. Devuelve la nueva cabeza y deja la cola en
+     * {@link #colaOrdenada}.
+     */
+    private Nodo<T> ordenar(Nodo<T> cabeza, int n, Nodo<T> medio, Nodo<T> cola, int profundidad) {
+        if (n <= 1) {
+            colaOrdenada = cabeza;
+            return cabeza;
+        }
+        if (profundidad == 0) {
+            respaldos++;
+            Nodo<T> ordenada = mezcla.ordenar(cabeza);
+            colaOrdenada = mezcla.getCola();
+            return ordenada;
+        }
+        Cancelacion.verificar();
+
+        Nodo<T> pivote = mediana(cabeza, medio, cola);
+        T valorPivote = pivote.getDato();
+
+        Nodo<T> menores = null, colaMenores = null, medioMenores = null;
+        Nodo<T> mayores = null, colaMayores = null, medioMayores = null;
+        int cantidadMenores = 0;
+        int cantidadMayores = 0;
+        int empates = 0;
+
+        Nodo<T> actual = cabeza;
+        for (int i = 0; i < n; i++) {
+            Nodo<T> siguiente = actual.getSiguiente();
+            if (actual != pivote) {
+                iterations++;
+                int comparacion = actual.getDato().compareTo(valorPivote);
+                if (comparacion < 0 || (comparacion == 0 && (empates++ & 1) == 0)) {
+                    if (menores == null) menores = actual;
+                    else colaMenores.setSiguiente(actual);
+                    colaMenores = actual;
+                    // El medio avanza un nodo cada dos agregados
+                    cantidadMenores++;
+                    if (cantidadMenores == 1) medioMenores = actual;
+                    else if ((cantidadMenores & 1) == 1) medioMenores = medioMenores.getSiguiente();
+                } else {
+                    if (mayores == null) mayores = actual;
+                    else colaMayores.setSiguiente(actual);
+                    colaMayores = actual;
+                    cantidadMayores++;
+                    if (cantidadMayores == 1) medioMayores = actual;
+                    else if ((cantidadMayores & 1) == 1) medioMayores = medioMayores.getSiguiente();
+                }
+            }
+            actual = siguiente;
+        }
+        if (colaMenores != null) colaMenores.setSiguiente(null);
+        if (colaMayores != null) colaMayores.setSiguiente(null);
+
+        // menores ordenados + pivote + mayores ordenados
+        Nodo<T> resultado = pivote;
+        if (cantidadMenores > 0) {
+            resultado = ordenar(menores, cantidadMenores, medioMenores, colaMenores, profundidad - 1);
+            colaOrdenada.setSiguiente(pivote);
+        }
+        pivote.setSiguiente(null);
+        colaOrdenada = pivote;
+        if (cantidadMayores > 0) {
+            pivote.setSiguiente(ordenar(mayores, cantidadMayores, medioMayores, colaMayores, profundidad - 1));
+        }
+        return resultado;
+    }
+
+    /**
+     * Mediana de tres nodos según su dato.
+     */
+    private Nodo<T> mediana(Nodo<T> a, Nodo<T> b, Nodo<T> c) {
+        iterations += 2;
+        if (a.getDato().compareTo(b.getDato()) < 0) {
+            if (b.getDato().compareTo(c.getDato()) <= 0) return b;
+            iterations++;
+            return a.getDato().compareTo(c.getDato()) < 0 ? c : a;
+        }
+        if (a.getDato().compareTo(c.getDato()) <= 0) return a;
+        iterations++;
+        return b.getDato().compareTo(c.getDato()) < 0 ? c : b;
+    }
+
+    @Override
+    public String getName() {
+        return "IntroSort (Lista Enlazada)";
+    }
+}
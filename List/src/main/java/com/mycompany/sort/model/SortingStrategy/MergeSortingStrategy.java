@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategy;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
 import com.mycompany.sort.model.politico.Nodo;
@@ -46,6 +47,7 @@ public class MergeSortingStrategy<T extends Comparable<T>> implements SortingStr
             cola = dummy;
 
             while (actual != null) {
+                Cancelacion.verificar();
                 izquierda = actual;
                 derecha = dividir(izquierda, tamanoSubLista);
                 actual = dividir(derecha, tamanoSubLista);
@@ -1,10 +1,12 @@
 package com.mycompany.sort.model.SortingStrategy;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
 import com.mycompany.sort.model.politico.Nodo;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
 
 public class QuickSortingStrategy<T extends Comparable<T>> implements SortingStrategy<T> {
 
@@ -26,6 +28,8 @@ public class QuickSortingStrategy<T extends Comparable<T>> implements SortingStr
             Nodo<T> cabeza = lista.getCabeza();
             Nodo<T> cola = obtenerCola(cabeza);
             quickSort(cabeza, cola);
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             // En caso de error, devolver valores seguros
             return new ResultadoOrdenamiento(0, 0);
@@ -40,6 +44,7 @@ public class QuickSortingStrategy<T extends Comparable<T>> implements SortingStr
     }
 
     private void quickSort(Nodo<T> inicio, Nodo<T> fin) {
+        Cancelacion.verificar();
         if (inicio == null || fin == null || inicio == fin) {
             return;
         }
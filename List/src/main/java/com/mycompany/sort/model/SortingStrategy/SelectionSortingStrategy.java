@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategy;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimple;
 import com.mycompany.sort.model.politico.Nodo;
@@ -25,6 +26,7 @@ public class SelectionSortingStrategy<T extends Comparable<T>> implements Sortin
         Nodo<T> actual = lista.getCabeza();
 
         while (actual != null) {
+            Cancelacion.verificar();
             Nodo<T> minimo = actual;
             Nodo<T> siguiente = actual.getSiguiente();
 
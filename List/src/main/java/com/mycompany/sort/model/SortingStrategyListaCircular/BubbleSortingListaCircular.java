@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaCircular;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
 import com.mycompany.sort.model.politico.Nodo;
@@ -29,6 +30,7 @@ public class BubbleSortingListaCircular<T extends Comparable<T>> implements Sort
         Nodo<T> cabeza = lista.getCabeza();
 
         for (int i = 0; i < n - 1; i++) {
+            Cancelacion.verificar();
             Nodo<T> actual = cabeza;
             Nodo<T> siguiente = actual.getSiguiente();
             intercambiado = false;
@@ -0,0 +1,131 @@
+package com.mycompany.sort.model.SortingStrategyListaCircular;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
+import com.mycompany.sort.model.politico.Nodo;
+
+import java.util.Objects;
+
+/**
+ * Merge sort híbrido para listas enlazadas simples circulares: inserción en tramos cortos y fusión ascendente.
+ * <p>
+ * Recorre la lista una vez separando tramos de {@code umbral} nodos, ordena cada uno con una
+ * inserción enlazada estable y lo apila como corrida en la misma fusión ascendente de
+ * {@link BottomUpMergeSortingListaCircular}.
+ * Así se evitan los niveles de fusión de corridas de uno o pocos nodos, que son casi todo
+ * sobrecosto. Con {@code umbral} 1 equivale a la fusión ascendente pura. Es estable. Los tramos
+ * se separan por cantidad de nodos, así que el círculo no estorba; al final se cierra sobre la
+ * nueva cola.
+ * </p>
+ */
+public class HybridMergeSortingListaCircular<T extends Comparable<T>> implements SortingStrategyListaCircular<T> {
+
+    /** Umbral de inserción por defecto. */
+    public static final int UMBRAL_POR_DEFECTO = 16;
+
+    private final int umbral;
+    private long iterations;
+    /** Cola de la última corrida formada por {@link #ordenarTramo}. */
+    private Nodo<T> colaCorrida;
+    /** Primer nodo después del último tramo ordenado por {@link #ordenarTramo}. */
+    private Nodo<T> siguienteTramo;
+
+    public HybridMergeSortingListaCircular() {
+        this(UMBRAL_POR_DEFECTO);
+    }
+
+    /**
+     * @param umbral Longitud de los tramos que se ordenan por inserción antes de fusionar.
+     */
+    public HybridMergeSortingListaCircular(int umbral) {
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral de inserción debe ser positivo: " + umbral);
+        }
+        this.umbral = umbral;
+    }
+
+    public int getUmbral() {
+        return umbral;
+    }
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaSimpleCircular<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+        FusionAscendente<T> fusion = new FusionAscendente<>();
+
+        Nodo<T> resto = lista.getCabeza();
+        int restantes = n;
+        while (restantes > 0) {
+            Cancelacion.verificar();
+            int longitud = Math.min(umbral, restantes);
+            Nodo<T> corrida = ordenarTramo(resto, longitud);
+            fusion.agregar(corrida, colaCorrida);
+            resto = siguienteTramo;
+            restantes -= longitud;
+        }
+
+        Nodo<T> cabeza = fusion.terminar();
+        Nodo<T> cola = fusion.getCola();
+
+        lista.reemplazarNodos(cabeza, cola, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations + fusion.getComparaciones(), elapsedMillis);
+    }
+
+    /**
+     * Ordena por inserción estable los {@code longitud} nodos que empiezan en {@code inicio} y los
+     * deja como una corrida terminada en {@code null}; el nodo que seguía al tramo queda en
+     * {@link #siguienteTramo}. Cada nodo se compara primero con la cola, así que un tramo ya
+     * ordenado cuesta una comparación por nodo.
+     */
+    private Nodo<T> ordenarTramo(Nodo<T> inicio, int longitud) {
+        Nodo<T> cabeza = inicio;
+        Nodo<T> cola = inicio;
+        Nodo<T> actual = inicio.getSiguiente();
+        for (int i = 1; i < longitud; i++) {
+            Nodo<T> siguiente = actual.getSiguiente();
+            iterations++;
+            if (actual.getDato().compareTo(cola.getDato()) >= 0) {
+                cola.setSiguiente(actual);
+                cola = actual;
+            } else {
+                iterations++;
+                if (actual.getDato().compareTo(cabeza.getDato()) < 0) {
+                    actual.setSiguiente(cabeza);
+                    cabeza = actual;
+                } else {
+                    Nodo<T> previo = cabeza;
+                    while (true) {
+                        iterations++;
+                        if (actual.getDato().compareTo(previo.getSiguiente().getDato()) < 0) {
+                            break;
+                        }
+                        previo = previo.getSiguiente();
+                    }
+                    actual.setSiguiente(previo.getSiguiente());
+                    previo.setSiguiente(actual);
+                }
+            }
+            actual = siguiente;
+        }
+        cola.setSiguiente(null);
+        colaCorrida = cola;
+        siguienteTramo = actual;
+        return cabeza;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort Híbrido (Lista Circular, umbral " + umbral + ")";
+    }
+}
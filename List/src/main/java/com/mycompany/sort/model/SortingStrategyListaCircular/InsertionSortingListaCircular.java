@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaCircular;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
 import com.mycompany.sort.model.politico.Nodo;
@@ -31,6 +32,7 @@ public class InsertionSortingListaCircular<T extends Comparable<T>> implements S
         int processed = 1; // Cuántos nodos se han procesado
 
         while (processed < lista.getTamanno()) {
+            Cancelacion.verificar();
             T key = actual.getDato();
             Nodo<T> mover = lista.getCabeza();
             Nodo<T> insertarAntes = null;
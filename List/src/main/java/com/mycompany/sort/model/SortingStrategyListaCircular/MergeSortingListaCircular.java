@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaCircular;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
 import com.mycompany.sort.model.politico.Nodo;
@@ -50,6 +51,7 @@ public class MergeSortingListaCircular<T extends Comparable<T>> implements Sorti
     }
 
     private SortWrapper<T> mergeSort(Nodo<T> cabeza) {
+        Cancelacion.verificar();
         if (cabeza == null || cabeza.getSiguiente() == null) {
             return new SortWrapper<>(cabeza, 0);
         }
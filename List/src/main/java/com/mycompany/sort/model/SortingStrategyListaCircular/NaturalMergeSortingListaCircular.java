@@ -0,0 +1,183 @@
+package com.mycompany.sort.model.SortingStrategyListaCircular;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
+import com.mycompany.sort.model.politico.Nodo;
+
+import java.util.Objects;
+
+/**
+ * Merge sort natural (adaptativo) para listas enlazadas simples circulares.
+ * <p>
+ * Recorre la lista una vez detectando corridas: las ascendentes se toman tal cual y las
+ * estrictamente descendentes se invierten en el mismo recorrido. Las corridas más cortas que
+ * {@link #CORRIDA_MINIMA} se extienden con inserción estable. Cada corrida se apila y se fusiona
+ * con las anteriores según el invariante de pila de TimSort, de modo que las fusiones quedan
+ * equilibradas. Una entrada ya ordenada o invertida es una sola corrida y cuesta O(n); en el
+ * peor caso el costo es O(n log n). El ordenamiento es estable.
+ * </p>
+ * <p>
+ * El círculo se abre antes de ordenar y se vuelve a cerrar sobre la nueva cola.
+ * </p>
+ */
+public class NaturalMergeSortingListaCircular<T extends Comparable<T>> implements SortingStrategyListaCircular<T> {
+
+    /** Longitud mínima de corrida; las más cortas se extienden con inserción. */
+    static final int CORRIDA_MINIMA = 32;
+    /** Capacidad de la pila de corridas; el invariante la mantiene logarítmica en n. */
+    private static final int PILA_MAXIMA = 64;
+
+    private long iterations;
+    private Nodo<T>[] cabezas;
+    private Nodo<T>[] colas;
+    private int[] longitudes;
+    private int pendientes;
+    /** Fusiona pares de corridas de la pila y cuenta sus comparaciones. */
+    private FusionAscendente<T> fusion;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ResultadoOrdenamiento sort(ListaEnlazadaSimpleCircular<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        if (lista.getTamanno() <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+        cabezas = (Nodo<T>[]) new Nodo<?>[PILA_MAXIMA];
+        colas = (Nodo<T>[]) new Nodo<?>[PILA_MAXIMA];
+        longitudes = new int[PILA_MAXIMA];
+        pendientes = 0;
+        fusion = new FusionAscendente<>();
+
+        Nodo<T> resto = lista.getCabeza();
+        lista.getUltimo().setSiguiente(null); // Romper circularidad
+        while (resto != null) {
+            Cancelacion.verificar();
+            resto = apilarCorrida(resto);
+            colapsar();
+        }
+        while (pendientes > 1) {
+            int k = pendientes - 2;
+            if (k > 0 && longitudes[k - 1] < longitudes[k + 1]) {
+                k--;
+            }
+            fusionarEn(k);
+        }
+
+        lista.reemplazarNodos(cabezas[0], colas[0], longitudes[0]);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations + fusion.getComparaciones(), elapsedMillis);
+    }
+
+    /**
+     * Separa la corrida que empieza en {@code inicio}, la deja ascendente y de al menos
+     * {@link #CORRIDA_MINIMA} nodos (si quedan), y la apila.
+     *
+     * @return Primer nodo que no forma parte de la corrida, o {@code null} si no quedan.
+     */
+    private Nodo<T> apilarCorrida(Nodo<T> inicio) {
+        Nodo<T> cabeza = inicio;
+        Nodo<T> cola = inicio;
+        Nodo<T> actual = inicio.getSiguiente();
+        int longitud = 1;
+
+        if (actual != null && comparar(actual, cabeza) < 0) {
+            // Corrida estrictamente descendente: cada nodo pasa a ser la nueva cabeza
+            do {
+                Nodo<T> siguiente = actual.getSiguiente();
+                actual.setSiguiente(cabeza);
+                cabeza = actual;
+                actual = siguiente;
+                longitud++;
+            } while (actual != null && comparar(actual, cabeza) < 0);
+        } else {
+            while (actual != null && comparar(actual, cola) >= 0) {
+                cola = actual;
+                actual = actual.getSiguiente();
+                longitud++;
+            }
+        }
+        cola.setSiguiente(null);
+
+        while (longitud < CORRIDA_MINIMA && actual != null) {
+            Nodo<T> siguiente = actual.getSiguiente();
+            actual.setSiguiente(null);
+            if (comparar(actual, cola) >= 0) {
+                cola.setSiguiente(actual);
+                cola = actual;
+            } else if (comparar(actual, cabeza) < 0) {
+                actual.setSiguiente(cabeza);
+                cabeza = actual;
+            } else {
+                Nodo<T> previo = cabeza;
+                while (comparar(actual, previo.getSiguiente()) >= 0) {
+                    previo = previo.getSiguiente();
+                }
+                actual.setSiguiente(previo.getSiguiente());
+                previo.setSiguiente(actual);
+            }
+            actual = siguiente;
+            longitud++;
+        }
+
+        cabezas[pendientes] = cabeza;
+        colas[pendientes] = cola;
+        longitudes[pendientes] = longitud;
+        pendientes++;
+        return actual;
+    }
+
+    /**
+     * Fusiona corridas del tope de la pila hasta restablecer el invariante de TimSort:
+     * cada corrida es más larga que la suma de las dos siguientes y que la siguiente.
+     */
+    private void colapsar() {
+        while (pendientes > 1) {
+            int k = pendientes - 2;
+            if ((k > 0 && longitudes[k - 1] <= longitudes[k] + longitudes[k + 1])
+                    || (k > 1 && longitudes[k - 2] <= longitudes[k - 1] + longitudes[k])) {
+                if (longitudes[k - 1] < longitudes[k + 1]) {
+                    k--;
+                }
+            } else if (longitudes[k] > longitudes[k + 1]) {
+                break;
+            }
+            fusionarEn(k);
+        }
+    }
+
+    /**
+     * Fusiona las corridas {@code k} y {@code k + 1} de la pila en la posición {@code k}.
+     */
+    private void fusionarEn(int k) {
+        cabezas[k] = fusion.fusionar(cabezas[k], colas[k], cabezas[k + 1], colas[k + 1]);
+        colas[k] = fusion.getCola();
+        longitudes[k] += longitudes[k + 1];
+        for (int i = k + 1; i < pendientes - 1; i++) {
+            cabezas[i] = cabezas[i + 1];
+            colas[i] = colas[i + 1];
+            longitudes[i] = longitudes[i + 1];
+        }
+        pendientes--;
+        cabezas[pendientes] = null;
+        colas[pendientes] = null;
+    }
+
+    /**
+     * Compara los datos de dos nodos contando la comparación como iteración.
+     */
+    private int comparar(Nodo<T> a, Nodo<T> b) {
+        iterations++;
+        return a.getDato().compareTo(b.getDato());
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort Natural (Lista Circular)";
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaCircular;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
 import com.mycompany.sort.model.politico.Nodo;
@@ -57,6 +58,7 @@ public class QuickSortingListaCircular<T extends Comparable<T>> implements Sorti
     }
 
     private QuickSortResult<T> quickSort(Nodo<T> head, Nodo<T> end) {
+        Cancelacion.verificar();
         if (head == null || head == end || head.getSiguiente() == end) {
             return new QuickSortResult<>(head, 0);
         }
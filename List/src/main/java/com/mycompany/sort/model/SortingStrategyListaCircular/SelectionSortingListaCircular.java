@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaCircular;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaSimpleCircular;
 import com.mycompany.sort.model.politico.Nodo;
@@ -23,6 +24,7 @@ public class SelectionSortingListaCircular<T extends Comparable<T>> implements S
         Nodo<T> actual = lista.getCabeza();
 
         for (int i = 0; i < n - 1; i++) {
+            Cancelacion.verificar();
             Nodo<T> minimo = actual;
             Nodo<T> siguiente = actual.getSiguiente();
 
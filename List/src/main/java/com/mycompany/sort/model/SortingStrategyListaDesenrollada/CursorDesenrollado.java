@@ -0,0 +1,62 @@
+package com.mycompany.sort.model.SortingStrategyListaDesenrollada;
+
+import com.mycompany.sort.model.politico.NodoDesenrollado;
+
+/**
+ * Posición dentro de una lista desenrollada: un nodo y un índice dentro de ese nodo.
+ * Avanzar es un incremento de índice salvo al cambiar de nodo, y ubicar salta nodos completos.
+ */
+final class CursorDesenrollado<T> {
+
+    NodoDesenrollado<T> nodo;
+    int indice;
+
+    /**
+     * Coloca el cursor {@code desplazamiento} elementos después de la posición ({@code nodo}, {@code indice}).
+     */
+    void ubicar(NodoDesenrollado<T> nodo, int indice, int desplazamiento) {
+        while (desplazamiento >= nodo.getCantidad() - indice) {
+            desplazamiento -= nodo.getCantidad() - indice;
+            nodo = nodo.getSiguiente();
+            indice = 0;
+        }
+        this.nodo = nodo;
+        this.indice = indice + desplazamiento;
+    }
+
+    /**
+     * Copia la posición de otro cursor.
+     */
+    void ubicar(CursorDesenrollado<T> otro) {
+        this.nodo = otro.nodo;
+        this.indice = otro.indice;
+    }
+
+    /**
+     * Avanza una posición; tras el último elemento de la lista el nodo queda en {@code null}.
+     */
+    void avanzar() {
+        if (++indice == nodo.getCantidad()) {
+            nodo = nodo.getSiguiente();
+            indice = 0;
+        }
+    }
+
+    T get() {
+        return nodo.get(indice);
+    }
+
+    void set(T dato) {
+        nodo.set(indice, dato);
+    }
+
+    boolean mismaPosicion(CursorDesenrollado<T> otro) {
+        return nodo == otro.nodo && indice == otro.indice;
+    }
+
+    static <T> void intercambiar(CursorDesenrollado<T> a, CursorDesenrollado<T> b) {
+        T temp = a.get();
+        a.set(b.get());
+        b.set(temp);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mycompany.sort.model.SortingStrategyListaDesenrollada;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDesenrollada;
+
+import java.util.Objects;
+
+/**
+ * Insertion Sort en su lugar para listas desenrolladas.
+ * Para cada elemento busca, avanzando desde la cabeza, la primera posición del prefijo ordenado con
+ * un valor mayor, y desplaza una posición hacia adelante los elementos entre esa posición y la del
+ * elemento. Los desplazamientos cruzan nodos sin cambiar su cantidad de elementos. Si el elemento no
+ * es menor que el máximo del prefijo se deja donde está, así que una entrada ordenada cuesta O(n).
+ */
+public class InsertionSortingListaDesenrollada<T extends Comparable<T>> implements SortingStrategyListaDesenrollada<T> {
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDesenrollada<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        long startTime = System.nanoTime();
+        long iterations = 0;
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        CursorDesenrollado<T> actual = new CursorDesenrollado<>();
+        CursorDesenrollado<T> destino = new CursorDesenrollado<>();
+        actual.ubicar(lista.getCabeza(), 0, 1);
+        T maximo = lista.getCabeza().get(0);
+
+        for (int posicion = 1; posicion < n; posicion++) {
+            Cancelacion.verificar();
+            T dato = actual.get();
+            iterations++;
+            if (maximo.compareTo(dato) <= 0) {
+                maximo = dato;
+                actual.avanzar();
+                continue;
+            }
+
+            // Primera posición del prefijo con un valor mayor (se mantiene la estabilidad)
+            destino.nodo = lista.getCabeza();
+            destino.indice = 0;
+            while (destino.get().compareTo(dato) <= 0) {
+                iterations++;
+                destino.avanzar();
+            }
+
+            // Desplazar [destino, actual) una posición y dejar el dato en destino
+            T arrastre = dato;
+            while (!destino.mismaPosicion(actual)) {
+                iterations++;
+                T temp = destino.get();
+                destino.set(arrastre);
+                arrastre = temp;
+                destino.avanzar();
+            }
+            actual.set(arrastre);
+            actual.avanzar();
+        }
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis);
+    }
+
+    @Override
+    public String getName() {
+        return "Insertion Sort (Lista Desenrollada)";
+    }
+}
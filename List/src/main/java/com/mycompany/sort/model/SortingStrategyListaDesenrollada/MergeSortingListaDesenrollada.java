@@ -0,0 +1,184 @@
+package com.mycompany.sort.model.SortingStrategyListaDesenrollada;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDesenrollada;
+import com.mycompany.sort.model.politico.NodoDesenrollado;
+
+import java.util.Objects;
+
+/**
+ * Merge Sort ascendente para listas desenrolladas.
+ * <p>
+ * Primero ordena cada nodo por inserción dentro de su arreglo, así cada nodo es una corrida inicial.
+ * Luego fusiona las corridas por pares, nivel a nivel, escribiendo la salida en nodos llenos. Los
+ * nodos de entrada que se terminan de leer se vacían y se reutilizan como nodos de salida, por lo
+ * que la fusión casi no crea nodos nuevos. Cuando una corrida se agota, los nodos completos que
+ * quedan de la otra se enlazan sin copiarse. El orden es estable.
+ * </p>
+ */
+public class MergeSortingListaDesenrollada<T extends Comparable<T>> implements SortingStrategyListaDesenrollada<T> {
+
+    private long iterations;
+    /** Nodos ya leídos y vaciados, disponibles para la salida de la fusión. */
+    private NodoDesenrollado<T> libres;
+    private int capacidad;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDesenrollada<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+        capacidad = lista.getCapacidadNodo();
+        libres = null;
+
+        // Cada nodo ordenado es una corrida independiente
+        int cantidadCorridas = 0;
+        for (NodoDesenrollado<T> nodo = lista.getCabeza(); nodo != null; nodo = nodo.getSiguiente()) {
+            cantidadCorridas++;
+        }
+        @SuppressWarnings("unchecked")
+        NodoDesenrollado<T>[] corridas = (NodoDesenrollado<T>[]) new NodoDesenrollado<?>[cantidadCorridas];
+        int k = 0;
+        NodoDesenrollado<T> nodo = lista.getCabeza();
+        while (nodo != null) {
+            Cancelacion.verificar();
+            NodoDesenrollado<T> siguiente = nodo.getSiguiente();
+            ordenarNodo(nodo);
+            nodo.setSiguiente(null);
+            corridas[k++] = nodo;
+            nodo = siguiente;
+        }
+
+        while (k > 1) {
+            int j = 0;
+            for (int i = 0; i + 1 < k; i += 2) {
+                Cancelacion.verificar();
+                corridas[j++] = fusionar(corridas[i], corridas[i + 1]);
+            }
+            if (k % 2 == 1) {
+                corridas[j++] = corridas[k - 1];
+            }
+            k = j;
+        }
+
+        NodoDesenrollado<T> cabeza = corridas[0];
+        NodoDesenrollado<T> cola = cabeza;
+        while (cola.getSiguiente() != null) {
+            cola = cola.getSiguiente();
+        }
+        lista.reemplazarNodos(cabeza, cola, n);
+        libres = null;
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis);
+    }
+
+    /**
+     * Ordena por inserción los elementos de un nodo; el arreglo es pequeño y contiguo.
+     */
+    private void ordenarNodo(NodoDesenrollado<T> nodo) {
+        for (int i = 1; i < nodo.getCantidad(); i++) {
+            T actual = nodo.get(i);
+            int j = i - 1;
+            while (j >= 0) {
+                iterations++;
+                if (nodo.get(j).compareTo(actual) <= 0) {
+                    break;
+                }
+                nodo.set(j + 1, nodo.get(j));
+                j--;
+            }
+            nodo.set(j + 1, actual);
+        }
+    }
+
+    /**
+     * Fusiona dos corridas terminadas en {@code null} y devuelve la cabeza de la corrida resultante.
+     */
+    private NodoDesenrollado<T> fusionar(NodoDesenrollado<T> a, NodoDesenrollado<T> b) {
+        NodoDesenrollado<T> cabeza = tomarNodo();
+        NodoDesenrollado<T> salida = cabeza;
+        int ia = 0;
+        int ib = 0;
+
+        while (a != null && b != null) {
+            iterations++;
+            T elegido;
+            T x = a.get(ia);
+            T y = b.get(ib);
+            if (x.compareTo(y) <= 0) {
+                elegido = x;
+                if (++ia == a.getCantidad()) {
+                    NodoDesenrollado<T> siguiente = a.getSiguiente();
+                    liberar(a);
+                    a = siguiente;
+                    ia = 0;
+                }
+            } else {
+                elegido = y;
+                if (++ib == b.getCantidad()) {
+                    NodoDesenrollado<T> siguiente = b.getSiguiente();
+                    liberar(b);
+                    b = siguiente;
+                    ib = 0;
+                }
+            }
+            if (salida.estaLleno()) {
+                NodoDesenrollado<T> nuevo = tomarNodo();
+                salida.setSiguiente(nuevo);
+                salida = nuevo;
+            }
+            salida.agregar(elegido);
+        }
+
+        NodoDesenrollado<T> resto = a != null ? a : b;
+        int indiceResto = a != null ? ia : ib;
+        if (resto != null) {
+            if (indiceResto == 0) {
+                salida.setSiguiente(resto);
+            } else {
+                // Se copia lo que queda del nodo a medio leer y se enlazan los nodos siguientes tal cual
+                while (indiceResto < resto.getCantidad()) {
+                    if (salida.estaLleno()) {
+                        NodoDesenrollado<T> nuevo = tomarNodo();
+                        salida.setSiguiente(nuevo);
+                        salida = nuevo;
+                    }
+                    salida.agregar(resto.get(indiceResto++));
+                }
+                NodoDesenrollado<T> siguiente = resto.getSiguiente();
+                liberar(resto);
+                salida.setSiguiente(siguiente);
+            }
+        }
+        return cabeza;
+    }
+
+    private NodoDesenrollado<T> tomarNodo() {
+        if (libres == null) {
+            return new NodoDesenrollado<>(capacidad);
+        }
+        NodoDesenrollado<T> nodo = libres;
+        libres = nodo.getSiguiente();
+        nodo.setSiguiente(null);
+        return nodo;
+    }
+
+    private void liberar(NodoDesenrollado<T> nodo) {
+        nodo.vaciar();
+        nodo.setSiguiente(libres);
+        libres = nodo;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort (Lista Desenrollada)";
+    }
+}
@@ -0,0 +1,99 @@
+package com.mycompany.sort.model.SortingStrategyListaDesenrollada;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDesenrollada;
+import com.mycompany.sort.model.politico.NodoDesenrollado;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * QuickSort para listas desenrolladas con partición de Lomuto y pivote aleatorio.
+ * Los dos índices de Lomuto son cursores que solo avanzan, así que cada partición recorre el rango
+ * de forma secuencial dentro de los arreglos de los nodos. Los datos se intercambian en su lugar y
+ * la estructura de nodos no cambia. Se recurre sobre la parte menor e itera sobre la mayor, por lo
+ * que la profundidad de recursión es O(log n).
+ */
+public class QuickSortingListaDesenrollada<T extends Comparable<T>> implements SortingStrategyListaDesenrollada<T> {
+
+    private long iterations;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDesenrollada<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        quickSort(lista.getCabeza(), 0, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis);
+    }
+
+    /**
+     * Ordena {@code longitud} elementos a partir de la posición ({@code nodo}, {@code indice}).
+     */
+    private void quickSort(NodoDesenrollado<T> nodo, int indice, int longitud) {
+        CursorDesenrollado<T> i = new CursorDesenrollado<>();
+        CursorDesenrollado<T> j = new CursorDesenrollado<>();
+        CursorDesenrollado<T> ultimo = new CursorDesenrollado<>();
+
+        while (longitud > 1) {
+            Cancelacion.verificar();
+
+            // Pivote aleatorio movido al final del rango
+            ultimo.ubicar(nodo, indice, longitud - 1);
+            j.ubicar(nodo, indice, ThreadLocalRandom.current().nextInt(longitud));
+            CursorDesenrollado.intercambiar(j, ultimo);
+            T pivote = ultimo.get();
+
+            i.nodo = nodo;
+            i.indice = indice;
+            j.nodo = nodo;
+            j.indice = indice;
+            int menores = 0;
+            for (int k = 0; k < longitud - 1; k++) {
+                iterations++;
+                if (j.get().compareTo(pivote) <= 0) {
+                    CursorDesenrollado.intercambiar(i, j);
+                    i.avanzar();
+                    menores++;
+                }
+                j.avanzar();
+            }
+            CursorDesenrollado.intercambiar(i, ultimo);
+
+            // i queda sobre el pivote; la parte derecha empieza justo después
+            NodoDesenrollado<T> nodoIzquierda = nodo;
+            int indiceIzquierda = indice;
+            int mayores = longitud - menores - 1;
+            i.avanzar();
+
+            if (menores < mayores) {
+                if (menores > 1) {
+                    quickSort(nodoIzquierda, indiceIzquierda, menores);
+                }
+                nodo = i.nodo;
+                indice = i.indice;
+                longitud = mayores;
+            } else {
+                if (mayores > 1) {
+                    quickSort(i.nodo, i.indice, mayores);
+                }
+                longitud = menores;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "QuickSort (Lista Desenrollada)";
+    }
+}
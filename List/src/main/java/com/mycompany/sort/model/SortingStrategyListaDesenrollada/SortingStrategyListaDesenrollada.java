@@ -0,0 +1,27 @@
+package com.mycompany.sort.model.SortingStrategyListaDesenrollada;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+
+import com.mycompany.sort.model.politico.ListaEnlazadaDesenrollada;
+
+/**
+ * Interfaz que define el contrato para estrategias de ordenamiento aplicadas a listas enlazadas
+ * desenrolladas ({@link ListaEnlazadaDesenrollada}).
+ */
+public interface SortingStrategyListaDesenrollada<T> {
+
+    /**
+     * Ordena la lista desenrollada.
+     *
+     * @param lista lista desenrollada a ordenar
+     * @return un {@link ResultadoOrdenamiento} que contiene información sobre el rendimiento del algoritmo
+     */
+    ResultadoOrdenamiento sort(ListaEnlazadaDesenrollada<T> lista);
+
+    /**
+     * Devuelve el nombre del algoritmo de ordenamiento.
+     *
+     * @return nombre legible del algoritmo
+     */
+    String getName();
+}
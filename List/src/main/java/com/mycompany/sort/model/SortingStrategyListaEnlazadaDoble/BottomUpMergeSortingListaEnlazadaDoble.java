@@ -0,0 +1,52 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+
+/**
+ * Merge sort ascendente (bottom-up) para listas doblemente enlazadas, al estilo de {@code list_sort}.
+ * <p>
+ * Consume la lista una sola vez, nodo por nodo, con {@link FusionAscendente}, que mantiene como un
+ * contador binario a lo sumo una corrida pendiente de cada tamaño 2<sup>k</sup>; al llegar una
+ * corrida del mismo tamaño que una pendiente se fusionan. A diferencia de
+ * {@link MergeSortingListaEnlazadaDoble} no recorre la lista para dividirla ni para buscar colas: cada
+ * fusión devuelve también la cola de su resultado. Las fusiones solo reescriben los enlaces
+ * siguientes y los anteriores se reconstruyen con una pasada final. Es estable, O(n log n), sin
+ * recursión y con memoria auxiliar constante.
+ * </p>
+ */
+public class BottomUpMergeSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        FusionAscendente<T> fusion = new FusionAscendente<>();
+        NodoDoble<T> cabeza = fusion.ordenar(lista.getCabeza());
+        NodoDoble<T> cola = fusion.getCola();
+
+        NodoDoble<T> anterior = null;
+        for (NodoDoble<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            nodo.setAnterior(anterior);
+            anterior = nodo;
+        }
+        lista.reemplazarNodos(cabeza, cola, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(fusion.getComparaciones(), elapsedMillis);
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort Bottom-Up (Lista Doble)";
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
 import com.mycompany.sort.model.politico.NodoDoble;
@@ -21,6 +22,7 @@ public class BubbleSortingListaEnlazadaDoble<T extends Comparable<T>> implements
         NodoDoble<T> end = null;
 
         do {
+            Cancelacion.verificar();
             swapped = false;
             NodoDoble<T> current = lista.getCabeza();
 
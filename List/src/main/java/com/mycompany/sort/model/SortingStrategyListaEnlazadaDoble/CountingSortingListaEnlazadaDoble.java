@@ -0,0 +1,151 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.ArreglosDeTrabajo;
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Counting sort (por casilleros) para listas doblemente enlazadas con claves enteras acotadas.
+ * <p>
+ * Una primera pasada obtiene la clave mínima y máxima; la segunda encadena cada nodo al final de
+ * la sublista de su clave, usando un índice de cabezas y colas con una casilla por valor del rango
+ * observado (no del rango posible), y al final se cosen las sublistas en orden de clave. Cuesta
+ * O(n + k), con k el tamaño del rango, es estable y no copia datos. El índice es el arreglo de
+ * trabajo del hilo ({@link ArreglosDeTrabajo}), así que no se reserva memoria en cada llamada. Solo se mantienen los enlaces siguientes; los anteriores
+ * se reconstruyen con una pasada final.
+ * </p>
+ * <p>
+ * Si el rango supera {@code rangoPorNodo} casillas por nodo, recorrer el índice costaría más que
+ * comparar y se delega en la estrategia de respaldo; el resultado lo cuenta en
+ * {@link ResultadoOrdenamiento#getRespaldos()}. Como en {@link RadixSortingListaEnlazadaDoble}, el orden es
+ * el de la clave.
+ * </p>
+ */
+public class CountingSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    /** Casillas del índice admitidas por cada nodo antes de recurrir al respaldo. */
+    public static final int RANGO_POR_NODO_POR_DEFECTO = 16;
+    /** Mayor rango cuyo índice (cabezas y colas) cabe en un arreglo. */
+    private static final long RANGO_MAXIMO = (Integer.MAX_VALUE - 8) / 2;
+
+    private final ToIntFunction<? super T> clave;
+    private final int rangoPorNodo;
+    private final SortingStrategyEnlazadaDoble<T> respaldo;
+
+    /**
+     * Usa {@link #RANGO_POR_NODO_POR_DEFECTO} y {@link HybridMergeSortingListaEnlazadaDoble} como respaldo.
+     *
+     * @param clave Clave entera por la que se ordena; puede ser negativa.
+     */
+    public CountingSortingListaEnlazadaDoble(ToIntFunction<? super T> clave) {
+        this(clave, RANGO_POR_NODO_POR_DEFECTO, new HybridMergeSortingListaEnlazadaDoble<>());
+    }
+
+    /**
+     * @param clave        Clave entera por la que se ordena; puede ser negativa.
+     * @param rangoPorNodo Casillas del índice admitidas por cada nodo de la lista.
+     * @param respaldo     Estrategia usada cuando el rango de claves es demasiado amplio.
+     */
+    public CountingSortingListaEnlazadaDoble(ToIntFunction<? super T> clave, int rangoPorNodo, SortingStrategyEnlazadaDoble<T> respaldo) {
+        if (rangoPorNodo < 1) {
+            throw new IllegalArgumentException("El rango por nodo debe ser positivo: " + rangoPorNodo);
+        }
+        this.clave = Objects.requireNonNull(clave, "La clave no puede ser null.");
+        this.rangoPorNodo = rangoPorNodo;
+        this.respaldo = Objects.requireNonNull(respaldo, "La estrategia de respaldo no puede ser null.");
+    }
+
+    public int getRangoPorNodo() {
+        return rangoPorNodo;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        long iterations = 0;
+
+        NodoDoble<T> cabeza = lista.getCabeza();
+        int minimo = clave.applyAsInt(cabeza.getDato());
+        int maximo = minimo;
+        for (NodoDoble<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            int valor = clave.applyAsInt(actual.getDato());
+            if (valor < minimo) minimo = valor;
+            else if (valor > maximo) maximo = valor;
+            iterations++;
+        }
+
+        long rango = (long) maximo - minimo + 1;
+        if (rango > (long) rangoPorNodo * n || rango > RANGO_MAXIMO) {
+            ResultadoOrdenamiento delegado = respaldo.sort(lista);
+            double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+            return new ResultadoOrdenamiento(iterations + delegado.getIterations(), elapsedMillis)
+                    .withMovimientos(delegado.getPasadas(), delegado.getMovimientos())
+                    .withRespaldos(delegado.getRespaldos() + 1);
+        }
+
+        // Cabezas en [0, k) y colas en [k, 2k) del mismo arreglo de trabajo
+        int k = (int) rango;
+        Object[] indice = ArreglosDeTrabajo.obtener(2 * k);
+        NodoDoble<T> cola = null;
+        try {
+            Cancelacion.verificar();
+            NodoDoble<T> actual = cabeza;
+            while (actual != null) {
+                NodoDoble<T> siguiente = actual.getSiguiente();
+                int casilla = clave.applyAsInt(actual.getDato()) - minimo;
+                if (indice[casilla] == null) {
+                    indice[casilla] = actual;
+                } else {
+                    ((NodoDoble<T>) indice[k + casilla]).setSiguiente(actual);
+                }
+                indice[k + casilla] = actual;
+                actual = siguiente;
+            }
+
+            Cancelacion.verificar();
+            cabeza = null;
+            for (int casilla = 0; casilla < k; casilla++) {
+                if (indice[casilla] == null) {
+                    continue;
+                }
+                if (cabeza == null) {
+                    cabeza = (NodoDoble<T>) indice[casilla];
+                } else {
+                    cola.setSiguiente((NodoDoble<T>) indice[casilla]);
+                }
+                cola = (NodoDoble<T>) indice[k + casilla];
+            }
+            cola.setSiguiente(null);
+        } finally {
+            ArreglosDeTrabajo.soltar(indice, 2 * k);
+        }
+
+        NodoDoble<T> anterior = null;
+        for (NodoDoble<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            nodo.setAnterior(anterior);
+            anterior = nodo;
+        }
+        lista.reemplazarNodos(cabeza, cola, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis).withMovimientos(1, n);
+    }
+
+    @Override
+    public String getName() {
+        return "Counting Sort (Lista Doble)";
+    }
+}
@@ -0,0 +1,150 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+/**
+ * Fusión ascendente (bottom-up) de corridas de nodos dobles, compartida por las estrategias de
+ * merge sort de este paquete.
+ * <p>
+ * Mantiene como un contador binario a lo sumo una corrida pendiente de cada tamaño en un arreglo
+ * de {@link #PENDIENTES} casillas: al agregar una corrida se fusiona con las pendientes del mismo
+ * nivel, y al terminar se fusionan todas de la más antigua a la más reciente. Cada fusión devuelve
+ * también la cola de su resultado, así que nunca se recorre una corrida para buscarla. Las
+ * fusiones son estables, cuentan sus comparaciones y solo reescriben los enlaces siguientes; quien
+ * las usa reconstruye los anteriores.
+ * </p>
+ */
+final class FusionAscendente<T extends Comparable<T>> {
+
+    /** Casillas de corridas pendientes; alcanzan para cualquier tamaño de lista. */
+    static final int PENDIENTES = 64;
+
+    private final NodoDoble<T>[] cabezas;
+    private final NodoDoble<T>[] colas;
+    private long comparaciones;
+    /** Cola del último resultado de {@link #fusionar} o {@link #terminar}. */
+    private NodoDoble<T> colaFusion;
+
+    @SuppressWarnings("unchecked")
+    FusionAscendente() {
+        cabezas = (NodoDoble<T>[]) new NodoDoble<?>[PENDIENTES];
+        colas = (NodoDoble<T>[]) new NodoDoble<?>[PENDIENTES];
+    }
+
+    /**
+     * Ordena la cadena que empieza en {@code cabeza} y termina en {@code null}, tomando cada nodo
+     * como una corrida de uno. Devuelve la nueva cabeza y deja la cola en {@link #getCola()}.
+     */
+    NodoDoble<T> ordenar(NodoDoble<T> cabeza) {
+        NodoDoble<T> actual = cabeza;
+        while (actual != null) {
+            Cancelacion.verificar();
+            NodoDoble<T> siguiente = actual.getSiguiente();
+            actual.setSiguiente(null);
+            agregar(actual, actual);
+            actual = siguiente;
+        }
+        return terminar();
+    }
+
+    /**
+     * Agrega una corrida ascendente terminada en {@code null}, posterior en la lista a todas las
+     * agregadas antes.
+     */
+    void agregar(NodoDoble<T> cabeza, NodoDoble<T> cola) {
+        int k = 0;
+        while (cabezas[k] != null) {
+            cabeza = fusionar(cabezas[k], colas[k], cabeza, cola);
+            cola = colaFusion;
+            cabezas[k] = null;
+            colas[k] = null;
+            k++;
+        }
+        cabezas[k] = cabeza;
+        colas[k] = cola;
+    }
+
+    /**
+     * Fusiona todas las corridas pendientes y deja el arreglo vacío para volver a usarse. Devuelve
+     * la cabeza del resultado y deja su cola en {@link #getCola()}.
+     */
+    NodoDoble<T> terminar() {
+        // Las casillas más altas contienen los nodos más antiguos: van a la izquierda
+        NodoDoble<T> cabeza = null;
+        NodoDoble<T> cola = null;
+        for (int k = 0; k < PENDIENTES; k++) {
+            if (cabezas[k] == null) {
+                continue;
+            }
+            if (cabeza == null) {
+                cabeza = cabezas[k];
+                cola = colas[k];
+            } else {
+                cabeza = fusionar(cabezas[k], colas[k], cabeza, cola);
+                cola = colaFusion;
+            }
+            cabezas[k] = null;
+            colas[k] = null;
+        }
+        colaFusion = cola;
+        return cabeza;
+    }
+
+    /**
+     * Fusiona dos corridas ascendentes; ante empates toma primero de la izquierda (estable).
+     * Deja en {@link #getCola()} la cola del resultado.
+     */
+    NodoDoble<T> fusionar(NodoDoble<T> izquierda, NodoDoble<T> colaIzquierda, NodoDoble<T> derecha, NodoDoble<T> colaDerecha) {
+        // Atajo para corridas ya encadenadas en orden: O(1)
+        comparaciones++;
+        if (colaIzquierda.getDato().compareTo(derecha.getDato()) <= 0) {
+            colaIzquierda.setSiguiente(derecha);
+            colaFusion = colaDerecha;
+            return izquierda;
+        }
+
+        NodoDoble<T> cabeza = null;
+        NodoDoble<T> actual = null;
+        while (izquierda != null && derecha != null) {
+            comparaciones++;
+            NodoDoble<T> menor;
+            if (izquierda.getDato().compareTo(derecha.getDato()) <= 0) {
+                menor = izquierda;
+                izquierda = izquierda.getSiguiente();
+            } else {
+                menor = derecha;
+                derecha = derecha.getSiguiente();
+            }
+            if (cabeza == null) {
+                cabeza = menor;
+            } else {
+                actual.setSiguiente(menor);
+            }
+            actual = menor;
+        }
+
+        if (izquierda != null) {
+            actual.setSiguiente(izquierda);
+            colaFusion = colaIzquierda;
+        } else {
+            actual.setSiguiente(derecha);
+            colaFusion = colaDerecha;
+        }
+        return cabeza;
+    }
+
+    /**
+     * @return Cola del último resultado de {@link #fusionar}, {@link #terminar} u {@link #ordenar}.
+     */
+    NodoDoble<T> getCola() {
+        return colaFusion;
+    }
+
+    /**
+     * @return Comparaciones hechas desde que se creó esta instancia.
+     */
+    long getComparaciones() {
+        return comparaciones;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
 import com.mycompany.sort.model.politico.NodoDoble;
@@ -22,6 +23,7 @@ public class InsertionSortingListaEnlazadaDoble<T extends Comparable<T>> impleme
         NodoDoble<T> actual = lista.getCabeza().getSiguiente(); // Segundo nodo
 
         while (actual != null) {
+            Cancelacion.verificar();
             T key = actual.getDato();
             NodoDoble<T> mover = actual.getAnterior();
 
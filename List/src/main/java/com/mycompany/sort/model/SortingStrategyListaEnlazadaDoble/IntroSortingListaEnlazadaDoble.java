@@ -0,0 +1,161 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+
+/**
+ * Introsort para listas doblemente enlazadas: quicksort con límite de profundidad y merge sort de respaldo.
+ * <p>
+ * Cada partición reenlaza los nodos del tramo en dos sublistas (menores y mayores que el pivote) y
+ * deja el pivote entre ambas; los iguales al pivote se reparten alternadamente entre las dos, de
+ * modo que los valores muy repetidos también producen particiones equilibradas. El pivote es la
+ * mediana del primero, el del medio y el último nodo del tramo, que la partición anterior registra
+ * al armar cada sublista, así que no se recorre el tramo para elegirlo. Si la recursión supera
+ * 2·log<sub>2</sub>(n) niveles, el tramo que la excedió se ordena con el merge sort ascendente de
+ * {@link BottomUpMergeSortingListaEnlazadaDoble} y se cuenta como respaldo en
+ * {@link ResultadoOrdenamiento#getRespaldos()}. El peor caso es O(n log n) y la pila queda acotada
+ * por el mismo límite, a diferencia de {@link QuickSortingListaEnlazadaDoble}. Solo se mantienen
+ * los enlaces siguientes; los anteriores se reconstruyen con una pasada final.
+ * </p>
+ */
+public class IntroSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    private long iterations;
+    private int respaldos;
+    /** Cola del último tramo devuelto por {@link #ordenar}. */
+    private NodoDoble<T> colaOrdenada;
+    /** Merge sort de respaldo para los tramos que agotan la profundidad. */
+    private FusionAscendente<T> mezcla;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+        respaldos = 0;
+        mezcla = new FusionAscendente<>();
+
+        NodoDoble<T> cabeza = lista.getCabeza();
+        NodoDoble<T> medio = cabeza;
+        NodoDoble<T> cola = cabeza;
+        for (int i = 1; i < n; i++) {
+            cola = cola.getSiguiente();
+            if (i == (n - 1) / 2) {
+                medio = cola;
+            }
+        }
+        cola.setSiguiente(null);
+
+        int limite = 2 * (31 - Integer.numberOfLeadingZeros(n));
+        cabeza = ordenar(cabeza, n, medio, cola, limite);
+        NodoDoble<T> anterior = null;
+        for (NodoDoble<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            nodo.setAnterior(anterior);
+            anterior = nodo;
+        }
+        lista.reemplazarNodos(cabeza, colaOrdenada, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations + mezcla.getComparaciones(), elapsedMillis)
+                .withRespaldos(respaldos);
+    }
+
+    /**
+     * Ordena los {@code n} nodos que empiezan en {@code cabeza} y terminan en {@code cola}, con
+     * {@code medio} en la posición (n - 1) / 2. Devuelve la nueva cabeza y deja la cola en
+     * {@link #colaOrdenada}.
+     */
+    private NodoDoble<T> ordenar(NodoDoble<T> cabeza, int n, NodoDoble<T> medio, NodoDoble<T> cola, int profundidad) {
+        if (n <= 1) {
+            colaOrdenada = cabeza;
+            return cabeza;
+        }
+        if (profundidad == 0) {
+            respaldos++;
+            NodoDoble<T> ordenada = mezcla.ordenar(cabeza);
+            colaOrdenada = mezcla.getCola();
+            return ordenada;
+        }
+        Cancelacion.verificar();
+
+        NodoDoble<T> pivote = mediana(cabeza, medio, cola);
+        T valorPivote = pivote.getDato();
+
+        NodoDoble<T> menores = null, colaMenores = null, medioMenores = null;
+        NodoDoble<T> mayores = null, colaMayores = null, medioMayores = null;
+        int cantidadMenores = 0;
+        int cantidadMayores = 0;
+        int empates = 0;
+
+        NodoDoble<T> actual = cabeza;
+        for (int i = 0; i < n; i++) {
+            NodoDoble<T> siguiente = actual.getSiguiente();
+            if (actual != pivote) {
+                iterations++;
+                int comparacion = actual.getDato().compareTo(valorPivote);
+                if (comparacion < 0 || (comparacion == 0 && (empates++ & 1) == 0)) {
+                    if (menores == null) menores = actual;
+                    else colaMenores.setSiguiente(actual);
+                    colaMenores = actual;
+                    // El medio avanza un nodo cada dos agregados
+                    cantidadMenores++;
+                    if (cantidadMenores == 1) medioMenores = actual;
+                    else if ((cantidadMenores & 1) == 1) medioMenores = medioMenores.getSiguiente();
+                } else {
+                    if (mayores == null) mayores = actual;
+                    else colaMayores.setSiguiente(actual);
+                    colaMayores = actual;
+                    cantidadMayores++;
+                    if (cantidadMayores == 1) medioMayores = actual;
+                    else if ((cantidadMayores & 1) == 1) medioMayores = medioMayores.getSiguiente();
+                }
+            }
+            actual = siguiente;
+        }
+        if (colaMenores != null) colaMenores.setSiguiente(null);
+        if (colaMayores != null) colaMayores.setSiguiente(null);
+
+        // menores ordenados + pivote + mayores ordenados
+        NodoDoble<T> resultado = pivote;
+        if (cantidadMenores > 0) {
+            resultado = ordenar(menores, cantidadMenores, medioMenores, colaMenores, profundidad - 1);
+            colaOrdenada.setSiguiente(pivote);
+        }
+        pivote.setSiguiente(null);
+        colaOrdenada = pivote;
+        if (cantidadMayores > 0) {
+            pivote.setSiguiente(ordenar(mayores, cantidadMayores, medioMayores, colaMayores, profundidad - 1));
+        }
+        return resultado;
+    }
+
+    /**
+     * Mediana de tres nodos según su dato.
+     */
+    private NodoDoble<T> mediana(NodoDoble<T> a, NodoDoble<T> b, NodoDoble<T> c) {
+        iterations += 2;
+        if (a.getDato().compareTo(b.getDato()) < 0) {
+            if (b.getDato().compareTo(c.getDato()) <= 0) return b;
+            iterations++;
+            return a.getDato().compareTo(c.getDato()) < 0 ? c : a;
+        }
+        if (a.getDato().compareTo(c.getDato()) <= 0) return a;
+        iterations++;
+        return b.getDato().compareTo(c.getDato()) < 0 ? c : b;
+    }
+
+    @Override
+    public String getName() {
+        return "IntroSort (Lista Doble)";
+    }
+}
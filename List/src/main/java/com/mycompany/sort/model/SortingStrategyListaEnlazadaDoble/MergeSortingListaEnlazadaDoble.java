@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
 import com.mycompany.sort.model.politico.NodoDoble;
@@ -39,6 +40,7 @@ public class MergeSortingListaEnlazadaDoble<T extends Comparable<T>> implements
     }
 
     private NodoDoble<T> mergeSortRecursivo(NodoDoble<T> cabeza) {
+        Cancelacion.verificar();
         if (cabeza == null || cabeza.getSiguiente() == null) {
             return cabeza;
         }
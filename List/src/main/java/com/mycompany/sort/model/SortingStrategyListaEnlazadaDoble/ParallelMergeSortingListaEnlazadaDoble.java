@@ -0,0 +1,319 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Merge sort paralelo para listas doblemente enlazadas sobre un {@link ForkJoinPool}.
+ * <p>
+ * Una lista enlazada no permite partirse sin recorrerla, así que primero se recogen los nodos en
+ * un arreglo (el único recorrido secuencial) y todo lo demás trabaja por índices en el pool: cada
+ * tarea ordena sus dos mitades en paralelo alternando entre el arreglo y una copia auxiliar, y las
+ * fusiona también en paralelo, partiendo la corrida mayor por su punto medio, buscando por
+ * bisección el punto de corte en la otra y fusionando ambas parejas de tramos en tareas distintas.
+ * Por último se reenlazan siguiente y anterior de cada nodo, en paralelo por tramos. Los tramos de
+ * hasta {@code corteSecuencial} elementos se ordenan, fusionan y enlazan sin crear tareas. El
+ * ordenamiento es estable y reserva dos arreglos de n referencias por llamada.
+ * </p>
+ * <p>
+ * Los hilos del pool no reciben la interrupción del hilo que ordena; este espera el ordenamiento
+ * del arreglo de forma interrumpible y, si lo interrumpen, marca una bandera compartida que las
+ * tareas consultan en cada partición. El reenlace, en cambio, se espera sin interrupción hasta que
+ * termina, para que ninguna tarea siga modificando los nodos después de que {@code sort} retorne;
+ * la cancelación se comprueba después, con la lista ya consistente.
+ * </p>
+ */
+public class ParallelMergeSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    /** Tamaño de tramo por defecto por debajo del cual no se crean más tareas. */
+    public static final int CORTE_SECUENCIAL_POR_DEFECTO = 1 << 13;
+
+    private final int corteSecuencial;
+    private final ForkJoinPool pool;
+
+    public ParallelMergeSortingListaEnlazadaDoble() {
+        this(CORTE_SECUENCIAL_POR_DEFECTO);
+    }
+
+    /**
+     * @param corteSecuencial Longitud de tramo hasta la cual se ordena sin crear tareas.
+     */
+    public ParallelMergeSortingListaEnlazadaDoble(int corteSecuencial) {
+        this(corteSecuencial, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param corteSecuencial Longitud de tramo hasta la cual se ordena sin crear tareas.
+     * @param pool            Pool en el que se ejecutan las tareas.
+     */
+    public ParallelMergeSortingListaEnlazadaDoble(int corteSecuencial, ForkJoinPool pool) {
+        if (corteSecuencial < 1) {
+            throw new IllegalArgumentException("El corte secuencial debe ser positivo: " + corteSecuencial);
+        }
+        this.corteSecuencial = corteSecuencial;
+        this.pool = Objects.requireNonNull(pool, "El pool no puede ser null.");
+    }
+
+    public int getCorteSecuencial() {
+        return corteSecuencial;
+    }
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null.");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        Cancelacion.verificar();
+        @SuppressWarnings("unchecked")
+        NodoDoble<T>[] nodos = (NodoDoble<T>[]) new NodoDoble<?>[n];
+        NodoDoble<T> actual = lista.getCabeza();
+        for (int i = 0; i < n; i++) {
+            nodos[i] = actual;
+            actual = actual.getSiguiente();
+        }
+
+        // Ambos arreglos empiezan iguales; el resultado queda en nodos
+        AtomicBoolean cancelado = new AtomicBoolean();
+        TareaOrdenamiento tarea = new TareaOrdenamiento(nodos.clone(), nodos, 0, n, cancelado);
+        pool.execute(tarea);
+        esperar(tarea, cancelado);
+
+        // El reenlace toca los nodos de la lista: se espera sin interrupción a que termine
+        pool.invoke(new TareaEnlace(nodos, 0, n));
+        lista.reemplazarNodos(nodos[0], nodos[n - 1], n);
+        Cancelacion.verificar();
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(tarea.comparaciones, elapsedMillis);
+    }
+
+    private void esperar(ForkJoinTask<?> tarea, AtomicBoolean cancelado) {
+        try {
+            tarea.get();
+        } catch (InterruptedException e) {
+            cancelado.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Ordenamiento cancelado");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Ordena {@code [desde, hasta)} dejando el resultado en {@code destino}; {@code origen} sirve de
+     * espacio auxiliar y al empezar debe tener los mismos elementos que {@code destino} en ese tramo.
+     * Cada tarea cuenta sus propias comparaciones y suma las de sus subtareas al unirlas.
+     */
+    @SuppressWarnings("serial")
+    private final class TareaOrdenamiento extends RecursiveAction {
+        private final NodoDoble<T>[] origen;
+        private final NodoDoble<T>[] destino;
+        private final int desde;
+        private final int hasta;
+        /** Bandera compartida por todas las tareas de un mismo ordenamiento. */
+        private final AtomicBoolean cancelado;
+        private long comparaciones;
+
+        TareaOrdenamiento(NodoDoble<T>[] origen, NodoDoble<T>[] destino, int desde, int hasta, AtomicBoolean cancelado) {
+            this.origen = origen;
+            this.destino = destino;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.cancelado = cancelado;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= corteSecuencial) {
+                ordenarSecuencial(origen, destino, desde, hasta);
+                return;
+            }
+            verificarCancelacion();
+            int mitad = (desde + hasta) >>> 1;
+
+            // Las mitades se ordenan hacia origen para fusionarlas después en destino
+            TareaOrdenamiento izquierda = new TareaOrdenamiento(destino, origen, desde, mitad, cancelado);
+            izquierda.fork();
+            TareaOrdenamiento derecha = new TareaOrdenamiento(destino, origen, mitad, hasta, cancelado);
+            derecha.compute();
+            izquierda.join();
+
+            TareaFusion fusion = new TareaFusion(origen, desde, mitad, mitad, hasta, destino, desde);
+            fusion.compute();
+            comparaciones += izquierda.comparaciones + derecha.comparaciones + fusion.comparaciones;
+        }
+
+        private void ordenarSecuencial(NodoDoble<T>[] origen, NodoDoble<T>[] destino, int desde, int hasta) {
+            if (hasta - desde <= 1) {
+                return;
+            }
+            verificarCancelacion();
+            int mitad = (desde + hasta) >>> 1;
+            ordenarSecuencial(destino, origen, desde, mitad);
+            ordenarSecuencial(destino, origen, mitad, hasta);
+            comparaciones += fusionarSecuencial(origen, desde, mitad, mitad, hasta, destino, desde);
+        }
+
+        private void verificarCancelacion() {
+            if (cancelado.get()) {
+                throw new CancellationException("Ordenamiento cancelado");
+            }
+        }
+    }
+
+    /**
+     * Fusiona las corridas {@code origen[i1, f1)} y {@code origen[i2, f2)} en {@code destino} a partir
+     * de {@code d}. Si son largas, parte la mayor por su punto medio, busca en la otra dónde cae ese
+     * elemento y fusiona las dos mitades resultantes en paralelo.
+     */
+    @SuppressWarnings("serial")
+    private final class TareaFusion extends RecursiveAction {
+        private final NodoDoble<T>[] origen;
+        private final int i1;
+        private final int f1;
+        private final int i2;
+        private final int f2;
+        private final NodoDoble<T>[] destino;
+        private final int d;
+        private long comparaciones;
+
+        TareaFusion(NodoDoble<T>[] origen, int i1, int f1, int i2, int f2, NodoDoble<T>[] destino, int d) {
+            this.origen = origen;
+            this.i1 = i1;
+            this.f1 = f1;
+            this.i2 = i2;
+            this.f2 = f2;
+            this.destino = destino;
+            this.d = d;
+        }
+
+        @Override
+        protected void compute() {
+            int total = (f1 - i1) + (f2 - i2);
+            // Con tres o más elementos la corrida mayor tiene al menos dos y ambas partes se achican
+            if (total <= corteSecuencial || total <= 2) {
+                comparaciones = fusionarSecuencial(origen, i1, f1, i2, f2, destino, d);
+                return;
+            }
+
+            int m1;
+            int m2;
+            if (f1 - i1 >= f2 - i2) {
+                // Los iguales de la derecha van después del corte de la izquierda (estable)
+                m1 = (i1 + f1) >>> 1;
+                m2 = primeroNoMenor(i2, f2, origen[m1].getDato());
+            } else {
+                // Los iguales de la izquierda van antes del corte de la derecha (estable)
+                m2 = (i2 + f2) >>> 1;
+                m1 = primeroMayor(i1, f1, origen[m2].getDato());
+            }
+
+            TareaFusion izquierda = new TareaFusion(origen, i1, m1, i2, m2, destino, d);
+            izquierda.fork();
+            TareaFusion derecha = new TareaFusion(origen, m1, f1, m2, f2, destino, d + (m1 - i1) + (m2 - i2));
+            derecha.compute();
+            izquierda.join();
+            comparaciones += izquierda.comparaciones + derecha.comparaciones;
+        }
+
+        /** Primer índice de {@code origen[desde, hasta)} cuyo dato no es menor que {@code clave}. */
+        private int primeroNoMenor(int desde, int hasta, T clave) {
+            while (desde < hasta) {
+                int medio = (desde + hasta) >>> 1;
+                comparaciones++;
+                if (origen[medio].getDato().compareTo(clave) < 0) {
+                    desde = medio + 1;
+                } else {
+                    hasta = medio;
+                }
+            }
+            return desde;
+        }
+
+        /** Primer índice de {@code origen[desde, hasta)} cuyo dato es mayor que {@code clave}. */
+        private int primeroMayor(int desde, int hasta, T clave) {
+            while (desde < hasta) {
+                int medio = (desde + hasta) >>> 1;
+                comparaciones++;
+                if (origen[medio].getDato().compareTo(clave) <= 0) {
+                    desde = medio + 1;
+                } else {
+                    hasta = medio;
+                }
+            }
+            return desde;
+        }
+    }
+
+    /**
+     * Fija siguiente y anterior de los nodos de {@code [desde, hasta)} según su posición en el arreglo.
+     */
+    @SuppressWarnings("serial")
+    private final class TareaEnlace extends RecursiveAction {
+        private final NodoDoble<T>[] nodos;
+        private final int desde;
+        private final int hasta;
+
+        TareaEnlace(NodoDoble<T>[] nodos, int desde, int hasta) {
+            this.nodos = nodos;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= corteSecuencial) {
+                int ultimo = nodos.length - 1;
+                for (int i = desde; i < hasta; i++) {
+                    nodos[i].setAnterior(i == 0 ? null : nodos[i - 1]);
+                    nodos[i].setSiguiente(i == ultimo ? null : nodos[i + 1]);
+                }
+                return;
+            }
+            int mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaEnlace(nodos, desde, mitad), new TareaEnlace(nodos, mitad, hasta));
+        }
+    }
+
+    /**
+     * Fusiona {@code origen[i1, f1)} y {@code origen[i2, f2)} en {@code destino} desde {@code d};
+     * ante empates toma primero de la izquierda (estable). Devuelve las comparaciones realizadas.
+     */
+    private long fusionarSecuencial(NodoDoble<T>[] origen, int i1, int f1, int i2, int f2, NodoDoble<T>[] destino, int d) {
+        long comparaciones = 0;
+        while (i1 < f1 && i2 < f2) {
+            comparaciones++;
+            if (origen[i1].getDato().compareTo(origen[i2].getDato()) <= 0) {
+                destino[d++] = origen[i1++];
+            } else {
+                destino[d++] = origen[i2++];
+            }
+        }
+        System.arraycopy(origen, i1, destino, d, f1 - i1);
+        System.arraycopy(origen, i2, destino, d + (f1 - i1), f2 - i2);
+        return comparaciones;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort Paralelo (Lista Doble)";
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
 import com.mycompany.sort.model.politico.NodoDoble;
@@ -41,6 +42,7 @@ public class QuickSortingListaEnlazadaDoble<T extends Comparable<T>> implements
     }
 
     private void quickSortRecursivo(NodoDoble<T> inicio, NodoDoble<T> fin) {
+        Cancelacion.verificar();
         if (inicio == null || fin == null || inicio == fin || inicio == fin.getSiguiente()) {
             return;
         }
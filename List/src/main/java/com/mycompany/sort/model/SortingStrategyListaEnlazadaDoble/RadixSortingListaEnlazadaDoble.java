@@ -0,0 +1,129 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Radix sort LSD (dígito menos significativo primero) para listas doblemente enlazadas.
+ * <p>
+ * No compara elementos: en cada pasada reparte los nodos en {@link #BALDES} sublistas según un
+ * dígito de {@value #BITS_POR_DIGITO} bits de la clave entera y luego concatena las sublistas en
+ * orden, todo reenlazando nodos sin copiar datos. Solo se recorren los dígitos en los que las
+ * claves difieren, así que claves acotadas (como el dinero, menor que 2<sup>20</sup>) requieren
+ * pocas pasadas. Cada pasada es estable, por lo que el resultado también lo es. Las pasadas solo
+ * mantienen los enlaces siguientes; los anteriores se reconstruyen al final.
+ * </p>
+ * <p>
+ * El orden obtenido es el de la clave; coincide con {@link Comparable#compareTo} solo si la
+ * comparación de los elementos depende únicamente de esa clave.
+ * </p>
+ */
+public class RadixSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    /** Bits de la clave que se procesan en cada pasada. */
+    static final int BITS_POR_DIGITO = 8;
+    /** Cantidad de sublistas de cada pasada. */
+    static final int BALDES = 1 << BITS_POR_DIGITO;
+
+    private final ToIntFunction<? super T> clave;
+
+    /**
+     * @param clave Clave entera por la que se ordena; puede ser negativa.
+     */
+    public RadixSortingListaEnlazadaDoble(ToIntFunction<? super T> clave) {
+        this.clave = Objects.requireNonNull(clave, "La clave no puede ser null.");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        long iterations = 0;
+
+        // Bits en los que alguna clave difiere de la primera; los demás dígitos no reordenan nada
+        NodoDoble<T> cabeza = lista.getCabeza();
+        NodoDoble<T> cola = cabeza;
+        int primera = claveSinSigno(cabeza);
+        int diferencias = 0;
+        for (NodoDoble<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            diferencias |= claveSinSigno(actual) ^ primera;
+            cola = actual;
+            iterations++;
+        }
+
+        NodoDoble<T>[] cabezas = (NodoDoble<T>[]) new NodoDoble<?>[BALDES];
+        NodoDoble<T>[] colas = (NodoDoble<T>[]) new NodoDoble<?>[BALDES];
+        int pasadas = 0;
+        long movimientos = 0;
+        for (int desplazamiento = 0; desplazamiento < Integer.SIZE && (diferencias >>> desplazamiento) != 0;
+             desplazamiento += BITS_POR_DIGITO) {
+            Cancelacion.verificar();
+
+            NodoDoble<T> actual = cabeza;
+            while (actual != null) {
+                NodoDoble<T> siguiente = actual.getSiguiente();
+                int digito = (claveSinSigno(actual) >>> desplazamiento) & (BALDES - 1);
+                if (cabezas[digito] == null) {
+                    cabezas[digito] = actual;
+                } else {
+                    colas[digito].setSiguiente(actual);
+                }
+                colas[digito] = actual;
+                actual = siguiente;
+                movimientos++;
+            }
+            iterations += n;
+
+            cabeza = null;
+            for (int b = 0; b < BALDES; b++) {
+                if (cabezas[b] == null) {
+                    continue;
+                }
+                if (cabeza == null) {
+                    cabeza = cabezas[b];
+                } else {
+                    cola.setSiguiente(cabezas[b]);
+                }
+                cola = colas[b];
+                cabezas[b] = null;
+                colas[b] = null;
+            }
+            cola.setSiguiente(null);
+            pasadas++;
+        }
+
+        NodoDoble<T> anterior = null;
+        for (NodoDoble<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            actual.setAnterior(anterior);
+            anterior = actual;
+        }
+        lista.reemplazarNodos(cabeza, cola, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis).withMovimientos(pasadas, movimientos);
+    }
+
+    /**
+     * Clave con el bit de signo invertido: su orden sin signo es el orden con signo de la clave.
+     */
+    private int claveSinSigno(NodoDoble<T> nodo) {
+        return clave.applyAsInt(nodo.getDato()) ^ Integer.MIN_VALUE;
+    }
+
+    @Override
+    public String getName() {
+        return "Radix Sort LSD (Lista Doble)";
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
 
+import com.mycompany.sort.model.Cancelacion;
 import com.mycompany.sort.model.ResultadoOrdenamiento;
 import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
 import com.mycompany.sort.model.politico.NodoDoble;
@@ -23,6 +24,7 @@ public class SelectionSortingListaEnlazadaDoble<T extends Comparable<T>> impleme
         NodoDoble<T> actual = lista.getCabeza();
 
         while (actual != null) {
+            Cancelacion.verificar();
             NodoDoble<T> maximo = actual;
             NodoDoble<T> siguiente = actual.getSiguiente();
 
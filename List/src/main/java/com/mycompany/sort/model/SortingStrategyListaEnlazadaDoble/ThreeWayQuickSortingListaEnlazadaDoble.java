@@ -0,0 +1,219 @@
+package com.mycompany.sort.model.SortingStrategyListaEnlazadaDoble;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaEnlazadaDoble;
+import com.mycompany.sort.model.politico.NodoDoble;
+
+import java.util.Objects;
+
+/**
+ * Quicksort de partición en tres vías para listas doblemente enlazadas, por reenlace de nodos.
+ * <p>
+ * Cada partición recorre su tramo una sola vez y reparte los nodos en tres sublistas (menores,
+ * iguales y mayores que el pivote) añadiéndolos al final, sin intercambiar datos; por eso el
+ * ordenamiento es estable, y los valores repetidos quedan resueltos en la sublista de iguales sin
+ * volver a particionarse. El pivote es la mediana de tres nodos elegidos por muestreo de
+ * reservorio durante la partición anterior, lo que da O(n log n) esperado incluso con entradas
+ * ordenadas. Se recurre sobre la sublista menor y se itera sobre la mayor, así que la pila crece
+ * O(log n); las partes ya ordenadas se acumulan en un prefijo y un sufijo enlazados. No se
+ * reserva memoria por partición. Solo se mantienen los enlaces siguientes; los anteriores se
+ * reconstruyen con una pasada final.
+ * </p>
+ */
+public class ThreeWayQuickSortingListaEnlazadaDoble<T extends Comparable<T>> implements SortingStrategyEnlazadaDoble<T> {
+
+    private long iterations;
+    /** Estado del generador xorshift usado para el muestreo de reservorio. */
+    private long semilla;
+    /** Cola del último tramo devuelto por {@link #ordenar}. */
+    private NodoDoble<T> colaOrdenada;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaEnlazadaDoble<T> lista) {
+        Objects.requireNonNull(lista, "La lista a ordenar no puede ser null");
+
+        int n = lista.getTamanno();
+        if (n <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+        semilla = System.nanoTime() | 1;
+
+        NodoDoble<T> s0 = null;
+        NodoDoble<T> s1 = null;
+        NodoDoble<T> s2 = null;
+        NodoDoble<T> actual = lista.getCabeza();
+        for (int i = 1; i <= n; i++) {
+            int ranura = ranuraDeMuestra(i);
+            if (ranura == 0) s0 = actual;
+            else if (ranura == 1) s1 = actual;
+            else if (ranura == 2) s2 = actual;
+            actual = actual.getSiguiente();
+        }
+
+        NodoDoble<T> cabeza = ordenar(lista.getCabeza(), n, s0, s1, s2);
+        NodoDoble<T> anterior = null;
+        for (NodoDoble<T> nodo = cabeza; nodo != null; nodo = nodo.getSiguiente()) {
+            nodo.setAnterior(anterior);
+            anterior = nodo;
+        }
+        lista.reemplazarNodos(cabeza, colaOrdenada, n);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis);
+    }
+
+    /**
+     * Ordena los {@code n} nodos que empiezan en {@code cabeza}, usando como candidatos a pivote
+     * las muestras {@code s0..s2} del tramo. Devuelve la nueva cabeza y deja la cola en
+     * {@link #colaOrdenada}; la cola termina en {@code null}.
+     */
+    private NodoDoble<T> ordenar(NodoDoble<T> cabeza, int n, NodoDoble<T> s0, NodoDoble<T> s1, NodoDoble<T> s2) {
+        NodoDoble<T> prefijo = null;
+        NodoDoble<T> colaPrefijo = null;
+        NodoDoble<T> sufijo = null;
+        NodoDoble<T> colaSufijo = null;
+
+        while (n > 1) {
+            Cancelacion.verificar();
+            T pivote = mediana(s0, s1, s2).getDato();
+
+            NodoDoble<T> menores = null, colaMenores = null;
+            NodoDoble<T> iguales = null, colaIguales = null;
+            NodoDoble<T> mayores = null, colaMayores = null;
+            NodoDoble<T> m0 = null, m1 = null, m2 = null;
+            NodoDoble<T> g0 = null, g1 = null, g2 = null;
+            int cantidadMenores = 0;
+            int cantidadMayores = 0;
+
+            NodoDoble<T> actual = cabeza;
+            for (int i = 0; i < n; i++) {
+                NodoDoble<T> siguiente = actual.getSiguiente();
+                iterations++;
+                int comparacion = actual.getDato().compareTo(pivote);
+                if (comparacion < 0) {
+                    if (menores == null) menores = actual;
+                    else colaMenores.setSiguiente(actual);
+                    colaMenores = actual;
+                    int ranura = ranuraDeMuestra(++cantidadMenores);
+                    if (ranura == 0) m0 = actual;
+                    else if (ranura == 1) m1 = actual;
+                    else if (ranura == 2) m2 = actual;
+                } else if (comparacion == 0) {
+                    if (iguales == null) iguales = actual;
+                    else colaIguales.setSiguiente(actual);
+                    colaIguales = actual;
+                } else {
+                    if (mayores == null) mayores = actual;
+                    else colaMayores.setSiguiente(actual);
+                    colaMayores = actual;
+                    int ranura = ranuraDeMuestra(++cantidadMayores);
+                    if (ranura == 0) g0 = actual;
+                    else if (ranura == 1) g1 = actual;
+                    else if (ranura == 2) g2 = actual;
+                }
+                actual = siguiente;
+            }
+            // El pivote pertenece al tramo, así que la sublista de iguales nunca está vacía
+            colaIguales.setSiguiente(null);
+            if (colaMenores != null) colaMenores.setSiguiente(null);
+            if (colaMayores != null) colaMayores.setSiguiente(null);
+
+            if (cantidadMenores <= cantidadMayores) {
+                // prefijo += menores ordenados + iguales; se continúa con los mayores
+                if (cantidadMenores > 0) {
+                    NodoDoble<T> ordenados = ordenar(menores, cantidadMenores, m0, m1, m2);
+                    if (prefijo == null) prefijo = ordenados;
+                    else colaPrefijo.setSiguiente(ordenados);
+                    colaPrefijo = colaOrdenada;
+                }
+                if (prefijo == null) prefijo = iguales;
+                else colaPrefijo.setSiguiente(iguales);
+                colaPrefijo = colaIguales;
+
+                cabeza = mayores;
+                n = cantidadMayores;
+                s0 = g0;
+                s1 = g1;
+                s2 = g2;
+            } else {
+                // sufijo = iguales + mayores ordenados + sufijo; se continúa con los menores
+                NodoDoble<T> colaBloque = colaIguales;
+                if (cantidadMayores > 0) {
+                    colaBloque.setSiguiente(ordenar(mayores, cantidadMayores, g0, g1, g2));
+                    colaBloque = colaOrdenada;
+                }
+                if (sufijo == null) colaSufijo = colaBloque;
+                else colaBloque.setSiguiente(sufijo);
+                sufijo = iguales;
+
+                cabeza = menores;
+                n = cantidadMenores;
+                s0 = m0;
+                s1 = m1;
+                s2 = m2;
+            }
+        }
+
+        // prefijo + tramo restante (cero o un nodo) + sufijo
+        NodoDoble<T> resultado = prefijo;
+        NodoDoble<T> cola = colaPrefijo;
+        if (n == 1) {
+            if (resultado == null) resultado = cabeza;
+            else cola.setSiguiente(cabeza);
+            cola = cabeza;
+        }
+        if (sufijo != null) {
+            if (resultado == null) resultado = sufijo;
+            else cola.setSiguiente(sufijo);
+            cola = colaSufijo;
+        }
+        cola.setSiguiente(null);
+        colaOrdenada = cola;
+        return resultado;
+    }
+
+    /**
+     * Mediana de hasta tres muestras; {@code s1} y {@code s2} pueden faltar en tramos cortos.
+     */
+    private NodoDoble<T> mediana(NodoDoble<T> s0, NodoDoble<T> s1, NodoDoble<T> s2) {
+        if (s1 == null || s2 == null) {
+            return s0;
+        }
+        iterations += 2;
+        T a = s0.getDato();
+        T b = s1.getDato();
+        T c = s2.getDato();
+        if (a.compareTo(b) < 0) {
+            if (b.compareTo(c) <= 0) return s1;
+            iterations++;
+            return a.compareTo(c) < 0 ? s2 : s0;
+        }
+        if (a.compareTo(c) <= 0) return s0;
+        iterations++;
+        return b.compareTo(c) < 0 ? s2 : s1;
+    }
+
+    /**
+     * Muestreo de reservorio de tamaño tres: decide en qué ranura guardar el elemento número
+     * {@code visto} (desde 1) de una secuencia, o -1 si no se guarda.
+     */
+    private int ranuraDeMuestra(int visto) {
+        if (visto <= 3) {
+            return visto - 1;
+        }
+        semilla ^= semilla << 13;
+        semilla ^= semilla >>> 7;
+        semilla ^= semilla << 17;
+        int indice = (int) (((semilla >>> 32) * visto) >>> 32);
+        return indice < 3 ? indice : -1;
+    }
+
+    @Override
+    public String getName() {
+        return "Quick Sort 3 vías (Lista Doble)";
+    }
+}
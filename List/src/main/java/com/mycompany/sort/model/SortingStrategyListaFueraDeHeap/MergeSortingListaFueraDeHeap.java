@@ -0,0 +1,111 @@
+package com.mycompany.sort.model.SortingStrategyListaFueraDeHeap;
+
+import com.mycompany.sort.model.Cancelacion;
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+import com.mycompany.sort.model.politico.ListaPoliticoFueraDeHeap;
+
+import java.util.Arrays;
+
+import static com.mycompany.sort.model.politico.ListaPoliticoFueraDeHeap.NULO;
+
+/**
+ * Merge sort ascendente (bottom-up) para {@link ListaPoliticoFueraDeHeap}.
+ * <p>
+ * Recorre la lista una sola vez tomando cada nodo como una corrida de tamaño 1 y mantiene, como un
+ * contador binario, a lo sumo una corrida pendiente de cada tamaño 2<sup>k</sup>; al llegar una
+ * corrida del mismo tamaño que una pendiente se fusionan. Solo se reescriben los enlaces
+ * siguientes durante las fusiones y los anteriores se reconstruyen con una pasada final, así que
+ * el ordenamiento es estable, O(n log n), sin recursión y sin asignaciones en el heap salvo el
+ * arreglo de 32 corridas pendientes.
+ * </p>
+ */
+public class MergeSortingListaFueraDeHeap implements SortingStrategyListaFueraDeHeap {
+
+    private long iterations;
+
+    @Override
+    public ResultadoOrdenamiento sort(ListaPoliticoFueraDeHeap lista) {
+        if (lista.getTamanno() <= 1) {
+            return new ResultadoOrdenamiento(0, 0);
+        }
+
+        long startTime = System.nanoTime();
+        iterations = 0;
+
+        int[] pendientes = new int[Integer.SIZE];
+        Arrays.fill(pendientes, NULO);
+
+        int actual = lista.getCabeza();
+        while (actual != NULO) {
+            Cancelacion.verificar();
+            int siguiente = lista.getSiguiente(actual);
+            lista.setSiguiente(actual, NULO);
+
+            int corrida = actual;
+            int k = 0;
+            while (pendientes[k] != NULO) {
+                corrida = fusionar(lista, pendientes[k], corrida);
+                pendientes[k] = NULO;
+                k++;
+            }
+            pendientes[k] = corrida;
+            actual = siguiente;
+        }
+
+        int cabeza = NULO;
+        for (int pendiente : pendientes) {
+            if (pendiente != NULO) {
+                cabeza = cabeza == NULO ? pendiente : fusionar(lista, pendiente, cabeza);
+            }
+        }
+
+        int anterior = NULO;
+        for (int nodo = cabeza; nodo != NULO; nodo = lista.getSiguiente(nodo)) {
+            lista.setAnterior(nodo, anterior);
+            anterior = nodo;
+        }
+        lista.reemplazarExtremos(cabeza, anterior);
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new ResultadoOrdenamiento(iterations, elapsedMillis);
+    }
+
+    /**
+     * Fusiona dos corridas ordenadas enlazadas por siguiente. Ante empates toma primero de
+     * {@code a}, que contiene los elementos anteriores, para conservar la estabilidad.
+     *
+     * @return Índice del primer nodo de la corrida fusionada.
+     */
+    private int fusionar(ListaPoliticoFueraDeHeap lista, int a, int b) {
+        int cabeza;
+        iterations++;
+        if (lista.comparar(a, b) <= 0) {
+            cabeza = a;
+            a = lista.getSiguiente(a);
+        } else {
+            cabeza = b;
+            b = lista.getSiguiente(b);
+        }
+
+        int cola = cabeza;
+        while (a != NULO && b != NULO) {
+            iterations++;
+            if (lista.comparar(a, b) <= 0) {
+                lista.setSiguiente(cola, a);
+                cola = a;
+                a = lista.getSiguiente(a);
+            } else {
+                lista.setSiguiente(cola, b);
+                cola = b;
+                b = lista.getSiguiente(b);
+            }
+        }
+        lista.setSiguiente(cola, a != NULO ? a : b);
+        return cabeza;
+    }
+
+    @Override
+    public String getName() {
+        return "Merge Sort (Lista Fuera de Heap)";
+    }
+}
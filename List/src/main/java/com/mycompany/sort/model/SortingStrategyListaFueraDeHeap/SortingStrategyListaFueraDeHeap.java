@@ -0,0 +1,28 @@
+package com.mycompany.sort.model.SortingStrategyListaFueraDeHeap;
+
+import com.mycompany.sort.model.ResultadoOrdenamiento;
+
+import com.mycompany.sort.model.politico.ListaPoliticoFueraDeHeap;
+
+/**
+ * Interfaz que define el contrato para estrategias de ordenamiento aplicadas a listas de políticos
+ * fuera del heap ({@link ListaPoliticoFueraDeHeap}). Las estrategias reenlazan índices de nodo en
+ * lugar de mover datos.
+ */
+public interface SortingStrategyListaFueraDeHeap {
+
+    /**
+     * Ordena la lista fuera del heap por dinero.
+     *
+     * @param lista lista a ordenar
+     * @return un {@link ResultadoOrdenamiento} que contiene información sobre el rendimiento del algoritmo
+     */
+    ResultadoOrdenamiento sort(ListaPoliticoFueraDeHeap lista);
+
+    /**
+     * Devuelve el nombre del algoritmo de ordenamiento.
+     *
+     * @return nombre legible del algoritmo
+     */
+    String getName();
+}
@@ -1,5 +1,6 @@
 package com.mycompany.sort.model.datahandler;
 
+import com.mycompany.sort.model.politico.ColumnasPolitico;
 import com.mycompany.sort.model.politico.Politico;
 
 /**
@@ -7,6 +8,10 @@ import com.mycompany.sort.model.politico.Politico;
  * Implementa el patrón de diseño Chain of Responsibility, permitiendo encadenar
  * múltiples generadores de datos que manejan distintos tipos de ordenamiento
  * (por ejemplo: ordenado, inverso, aleatorio).
+ * <p>
+ * Cada generador produce los datos por columnas ({@link ColumnasPolitico}); la versión con
+ * objetos {@link Politico} se obtiene materializando esas columnas.
+ * </p>
  */
 public abstract class DataGeneratorHandler {
     /**
@@ -24,12 +29,35 @@ public abstract class DataGeneratorHandler {
     }
 
     /**
-     * Método abstracto que cada subclase debe implementar para generar datos
-     * del tipo especificado.
+     * Método abstracto que cada subclase debe implementar para generar, por columnas,
+     * datos del tipo especificado.
+     *
+     * @param type el tipo de ordenamiento deseado ("SORTED", "INVERSE", "RANDOM", etc.).
+     * @param size la cantidad de políticos a generar.
+     * @return las columnas de dinero y fecha en el orden especificado.
+     */
+    public abstract ColumnasPolitico generateColumns(String type, int size);
+
+    /**
+     * Genera datos del tipo especificado como objetos {@link Politico}.
      *
      * @param type el tipo de ordenamiento deseado ("SORTED", "INVERSE", "RANDOM", etc.).
      * @param size el tamaño del arreglo a generar.
      * @return un arreglo de objetos {@link Politico} en el orden especificado.
      */
-    public abstract Politico[] generateData(String type, int size);
+    public Politico[] generateData(String type, int size) {
+        return generateColumns(type, size).materializar();
+    }
+
+    /**
+     * Delega la generación al siguiente manejador de la cadena.
+     *
+     * @throws IllegalArgumentException si no hay más manejadores.
+     */
+    protected ColumnasPolitico delegarSiNoEsTipoSolicitado(String type, int size) {
+        if (nextHandler != null) {
+            return nextHandler.generateColumns(type, size);
+        }
+        throw new IllegalArgumentException("Tipo no soportado: " + type);
+    }
 }
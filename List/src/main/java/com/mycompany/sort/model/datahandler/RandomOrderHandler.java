@@ -1,6 +1,6 @@
 package com.mycompany.sort.model.datahandler;
 
-import com.mycompany.sort.model.politico.Politico;
+import com.mycompany.sort.model.politico.ColumnasPolitico;
 import java.time.LocalDate;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -17,39 +17,26 @@ public class RandomOrderHandler extends DataGeneratorHandler {
     private static final int MAX_ANIOS = 80;
 
     @Override
-    public Politico[] generateData(String type, int size) {
+    public ColumnasPolitico generateColumns(String type, int size) {
         if (!"RANDOM".equalsIgnoreCase(type)) {
             return delegarSiNoEsTipoSolicitado(type, size);
         }
 
-        Politico[] data = new Politico[size];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int anioActual = LocalDate.now().getYear();
+        int[] dinero = new int[size];
+        int[] epochDay = new int[size];
         for (int i = 0; i < size; i++) {
-            data[i] = new Politico(
-                    generarDineroAleatorio(),
-                    generarFechaAleatoria()
-            );
+            dinero[i] = random.nextInt(MIN_DINERO, MAX_DINERO + 1);
+            epochDay[i] = generarFechaAleatoria(random, anioActual);
         }
-        return data;
+        return new ColumnasPolitico(dinero, epochDay);
     }
 
-    private int generarDineroAleatorio() {
-        return ThreadLocalRandom.current().nextInt(MIN_DINERO, MAX_DINERO + 1);
+    private int generarFechaAleatoria(ThreadLocalRandom random, int anioActual) {
+        int anosAtras = random.nextInt(MIN_ANIOS, MAX_ANIOS + 1);
+        int mes = random.nextInt(1, 13);
+        int dia = random.nextInt(1, 29); // Evita problemas con días inválidos
+        return (int) LocalDate.of(anioActual - anosAtras, mes, dia).toEpochDay();
     }
-
-    private LocalDate generarFechaAleatoria() {
-        int anosAtras = ThreadLocalRandom.current().nextInt(MIN_ANIOS, MAX_ANIOS + 1);
-        int mes = ThreadLocalRandom.current().nextInt(1, 13);
-        int dia = ThreadLocalRandom.current().nextInt(1, 29); // Evita problemas con días inválidos
-        return LocalDate.now()
-                .minusYears(anosAtras)
-                .withMonth(mes)
-                .withDayOfMonth(dia);
-    }
-
-    private Politico[] delegarSiNoEsTipoSolicitado(String type, int size) {
-        if (nextHandler != null) {
-            return nextHandler.generateData(type, size);
-        }
-        throw new IllegalArgumentException("Tipo no soportado: " + type);
-    }
-}
\ No newline at end of file
+}
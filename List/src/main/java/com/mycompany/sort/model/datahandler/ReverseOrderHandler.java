@@ -1,12 +1,12 @@
 package com.mycompany.sort.model.datahandler;
 
-import com.mycompany.sort.model.politico.Politico;
+import com.mycompany.sort.model.politico.ColumnasPolitico;
 import java.time.LocalDate;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Manejador concreto de la cadena de generación de datos que genera un arreglo
- * de objetos {@link Politico} ordenado de forma inversa.
+ * de objetos {@link com.mycompany.sort.model.politico.Politico} ordenado de forma inversa.
  * Si el tipo de dato solicitado no es "INVERSE", delega la generación al siguiente
  * manejador en la cadena.
  */
@@ -18,38 +18,36 @@ public class ReverseOrderHandler extends DataGeneratorHandler {
     private static final int MAX_ANIOS = 80;
 
     @Override
-    public Politico[] generateData(String type, int size) {
+    public ColumnasPolitico generateColumns(String type, int size) {
         if ("INVERSE".equalsIgnoreCase(type)) {
-            Politico[] data = new Politico[size];
+            int[] fechasPorAnio = fechasPorAnio();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int[] dinero = new int[size];
+            int[] epochDay = new int[size];
 
             // Generación directa en orden descendente
             for (int i = 0; i < size; i++) {
-                int dinero = calcularDineroDescendente(i, size);
-                LocalDate fecha = generarFechaAleatoria();
-                data[i] = new Politico(dinero, fecha);
+                dinero[i] = calcularDineroDescendente(i, size);
+                epochDay[i] = fechasPorAnio[random.nextInt(fechasPorAnio.length)];
             }
-            return data;
+            return new ColumnasPolitico(dinero, epochDay);
         }
         return delegarSiNoEsTipoSolicitado(type, size);
     }
 
-    /** Calcula dinero en orden descendente (mayor a menor) */
+    /** Calcula dinero en orden descendente (mayor a menor); el producto se hace en long para tamaños grandes */
     private int calcularDineroDescendente(int index, int total) {
         if (total <= 1) return MAX_DINERO;
-        return MAX_DINERO - (index * (MAX_DINERO - MIN_DINERO) / (total - 1));
+        return (int) (MAX_DINERO - ((long) index * (MAX_DINERO - MIN_DINERO) / (total - 1)));
     }
 
-    /** Genera fechas aleatorias entre 20-80 años atrás */
-    private LocalDate generarFechaAleatoria() {
-        int anosAtras = ThreadLocalRandom.current().nextInt(MIN_ANIOS, MAX_ANIOS + 1);
-        return LocalDate.now().minusYears(anosAtras);
-    }
-
-    /** Delegación al siguiente manejador en la cadena */
-    private Politico[] delegarSiNoEsTipoSolicitado(String type, int size) {
-        if (nextHandler != null) {
-            return nextHandler.generateData(type, size);
+    /** Fechas de 20-80 años atrás (día de época), calculadas una vez por generación */
+    private int[] fechasPorAnio() {
+        LocalDate hoy = LocalDate.now();
+        int[] fechas = new int[MAX_ANIOS - MIN_ANIOS + 1];
+        for (int i = 0; i < fechas.length; i++) {
+            fechas[i] = (int) hoy.minusYears(MIN_ANIOS + i).toEpochDay();
         }
-        throw new IllegalArgumentException("Tipo no soportado: " + type);
+        return fechas;
     }
 }
@@ -1,9 +1,7 @@
 package com.mycompany.sort.model.datahandler;
 
-import com.mycompany.sort.model.politico.Politico;
+import com.mycompany.sort.model.politico.ColumnasPolitico;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -18,37 +16,36 @@ public class SortedOrderHandler extends DataGeneratorHandler {
     private static final int MAX_ANIOS = 80;
 
     @Override
-    public Politico[] generateData(String type, int size) {
+    public ColumnasPolitico generateColumns(String type, int size) {
         if ("SORTED".equalsIgnoreCase(type)) {
-            Politico[] data = new Politico[size];
+            int[] fechasPorAnio = fechasPorAnio();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int[] dinero = new int[size];
+            int[] epochDay = new int[size];
 
-            // Distribución lineal del dinero en el rango especificado
+            // Distribución lineal del dinero en el rango especificado; ya queda ordenada
             for (int i = 0; i < size; i++) {
-                int dinero = calcularDineroOrdenado(i, size);
-                LocalDate fecha = generarFechaAleatoria();
-                data[i] = new Politico(dinero, fecha);
+                dinero[i] = calcularDineroOrdenado(i, size);
+                epochDay[i] = fechasPorAnio[random.nextInt(fechasPorAnio.length)];
             }
-
-            Arrays.sort(data, Comparator.comparingInt(Politico::getDinero));
-            return data;
+            return new ColumnasPolitico(dinero, epochDay);
         }
         return delegarSiNoEsTipoSolicitado(type, size);
     }
 
+    /** El producto se hace en long para que no se desborde con tamaños grandes */
     private int calcularDineroOrdenado(int index, int total) {
         if (total <= 1) return MIN_DINERO;
-        return MIN_DINERO + (index * (MAX_DINERO - MIN_DINERO)) / (total - 1);
-    }
-
-    private LocalDate generarFechaAleatoria() {
-        int anosAtras = MIN_ANIOS + ThreadLocalRandom.current().nextInt(MAX_ANIOS - MIN_ANIOS + 1);
-        return LocalDate.now().minusYears(anosAtras);
+        return (int) (MIN_DINERO + ((long) index * (MAX_DINERO - MIN_DINERO)) / (total - 1));
     }
 
-    private Politico[] delegarSiNoEsTipoSolicitado(String type, int size) {
-        if (nextHandler != null) {
-            return nextHandler.generateData(type, size);
+    /** Fechas de 20-80 años atrás (día de época), calculadas una vez por generación */
+    private int[] fechasPorAnio() {
+        LocalDate hoy = LocalDate.now();
+        int[] fechas = new int[MAX_ANIOS - MIN_ANIOS + 1];
+        for (int i = 0; i < fechas.length; i++) {
+            fechas[i] = (int) hoy.minusYears(MIN_ANIOS + i).toEpochDay();
         }
-        throw new IllegalArgumentException("Tipo no soportado: " + type);
+        return fechas;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,196 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.Arrays;
+
+/**
+ * Arena de nodos reutilizables para las copias de listas que se ordenan en cada ejecución.
+ * <p>
+ * Los nodos entregados se guardan en arreglos y, tras {@link #reiniciar()}, se vuelven a entregar
+ * en el mismo orden sobrescribiendo su dato y sus enlaces. Así, una vez que la arena alcanzó el
+ * tamaño de la lista, copiar la lista de nuevo no crea objetos y el recolector de basura no se
+ * dispara durante el ordenamiento siguiente.
+ * </p>
+ * <p>
+ * Al reiniciar, todas las listas construidas con nodos de la arena quedan inválidas, porque sus
+ * nodos se reasignarán. La arena no es segura para hilos: se usa una por hilo.
+ * </p>
+ *
+ * @param <T> El tipo del dato almacenado en los nodos.
+ */
+public class ArenaNodos<T> {
+
+    private Nodo<T>[] simples;
+    private NodoDoble<T>[] dobles;
+    private int usadosSimples;
+    private int usadosDobles;
+    private int totalSimples;
+    private int totalDobles;
+    private int creados;
+
+    /**
+     * Construye una arena vacía; los nodos se crean a medida que se piden.
+     */
+    public ArenaNodos() {
+        vaciar();
+    }
+
+    /**
+     * Entrega un nodo simple con el dato indicado y sin siguiente.
+     *
+     * @param dato El dato a almacenar.
+     * @return Un nodo reutilizado o, si la arena se agotó, uno nuevo que queda en la arena.
+     */
+    public Nodo<T> nodo(T dato) {
+        if (usadosSimples < totalSimples) {
+            Nodo<T> nodo = simples[usadosSimples++];
+            nodo.setDato(dato);
+            nodo.setSiguiente(null);
+            return nodo;
+        }
+        if (totalSimples == simples.length) {
+            simples = Arrays.copyOf(simples, Math.max(16, simples.length * 2));
+        }
+        Nodo<T> nodo = new Nodo<>(dato);
+        simples[totalSimples++] = nodo;
+        usadosSimples++;
+        creados++;
+        return nodo;
+    }
+
+    /**
+     * Entrega un nodo doble con el dato indicado y sin enlaces.
+     *
+     * @param dato El dato a almacenar.
+     * @return Un nodo reutilizado o, si la arena se agotó, uno nuevo que queda en la arena.
+     */
+    public NodoDoble<T> nodoDoble(T dato) {
+        if (usadosDobles < totalDobles) {
+            NodoDoble<T> nodo = dobles[usadosDobles++];
+            nodo.setDato(dato);
+            nodo.setAnterior(null);
+            nodo.setSiguiente(null);
+            return nodo;
+        }
+        if (totalDobles == dobles.length) {
+            dobles = Arrays.copyOf(dobles, Math.max(16, dobles.length * 2));
+        }
+        NodoDoble<T> nodo = new NodoDoble<>(dato, null, null);
+        dobles[totalDobles++] = nodo;
+        usadosDobles++;
+        creados++;
+        return nodo;
+    }
+
+    /**
+     * Copia la lista con nodos de la arena. Operación O(n) sin asignaciones una vez que la arena
+     * tiene nodos suficientes.
+     *
+     * @param original Lista de referencia, no se modifica.
+     * @return Lista nueva con los mismos datos en el mismo orden.
+     */
+    public ListaEnlazadaSimple<T> copiar(ListaEnlazadaSimple<T> original) {
+        ListaEnlazadaSimple<T> copia = new ListaEnlazadaSimple<>();
+        Nodo<T> cabeza = null;
+        Nodo<T> cola = null;
+        for (Nodo<T> actual = original.getCabeza(); actual != null; actual = actual.getSiguiente()) {
+            Nodo<T> nuevo = nodo(actual.getDato());
+            if (cola == null) {
+                cabeza = nuevo;
+            } else {
+                cola.setSiguiente(nuevo);
+            }
+            cola = nuevo;
+        }
+        copia.reemplazarNodos(cabeza, cola, original.getTamanno());
+        return copia;
+    }
+
+    /**
+     * Copia la lista doble con nodos de la arena.
+     *
+     * @param original Lista de referencia, no se modifica.
+     * @return Lista nueva con los mismos datos en el mismo orden.
+     */
+    public ListaEnlazadaDoble<T> copiar(ListaEnlazadaDoble<T> original) {
+        ListaEnlazadaDoble<T> copia = new ListaEnlazadaDoble<>();
+        NodoDoble<T> cabeza = null;
+        NodoDoble<T> cola = null;
+        for (NodoDoble<T> actual = original.getCabeza(); actual != null; actual = actual.getSiguiente()) {
+            NodoDoble<T> nuevo = nodoDoble(actual.getDato());
+            if (cola == null) {
+                cabeza = nuevo;
+            } else {
+                cola.setSiguiente(nuevo);
+                nuevo.setAnterior(cola);
+            }
+            cola = nuevo;
+        }
+        copia.reemplazarNodos(cabeza, cola, original.getTamanno());
+        return copia;
+    }
+
+    /**
+     * Copia la lista circular con nodos de la arena.
+     *
+     * @param original Lista de referencia, no se modifica.
+     * @return Lista nueva con los mismos datos en el mismo orden.
+     */
+    public ListaEnlazadaSimpleCircular<T> copiar(ListaEnlazadaSimpleCircular<T> original) {
+        ListaEnlazadaSimpleCircular<T> copia = new ListaEnlazadaSimpleCircular<>();
+        Nodo<T> cabeza = null;
+        Nodo<T> cola = null;
+        Nodo<T> actual = original.getCabeza();
+        for (int i = 0; i < original.getTamanno(); i++) {
+            Nodo<T> nuevo = nodo(actual.getDato());
+            if (cola == null) {
+                cabeza = nuevo;
+            } else {
+                cola.setSiguiente(nuevo);
+            }
+            cola = nuevo;
+            actual = actual.getSiguiente();
+        }
+        copia.reemplazarNodos(cabeza, cola, original.getTamanno());
+        return copia;
+    }
+
+    /**
+     * Marca todos los nodos como disponibles para volver a entregarse.
+     * Las listas construidas con la arena dejan de ser válidas.
+     */
+    public void reiniciar() {
+        usadosSimples = 0;
+        usadosDobles = 0;
+    }
+
+    /**
+     * Descarta todos los nodos de la arena para que el recolector pueda liberarlos.
+     */
+    public void liberar() {
+        vaciar();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void vaciar() {
+        simples = (Nodo<T>[]) new Nodo<?>[0];
+        dobles = (NodoDoble<T>[]) new NodoDoble<?>[0];
+        usadosSimples = 0;
+        usadosDobles = 0;
+        totalSimples = 0;
+        totalDobles = 0;
+    }
+
+    /**
+     * @return Cantidad de nodos retenidos por la arena (simples y dobles).
+     */
+    public int getCapacidad() {
+        return totalSimples + totalDobles;
+    }
+
+    /**
+     * @return Cantidad total de nodos creados por la arena desde su construcción.
+     */
+    public int getCreados() {
+        return creados;
+    }
+}
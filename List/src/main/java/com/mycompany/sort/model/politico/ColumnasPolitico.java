@@ -0,0 +1,126 @@
+package com.mycompany.sort.model.politico;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Conjunto de datos de políticos almacenado por columnas: un arreglo {@code int[]} con el dinero
+ * y otro con la fecha como día de época ({@link LocalDate#toEpochDay()}).
+ * <p>
+ * Cada elemento ocupa 8 bytes contiguos en lugar de un objeto {@link Politico} más un objeto
+ * {@link LocalDate}, así que los conjuntos grandes se generan y recorren sin dispersar datos por
+ * el heap. Los objetos {@link Politico} se crean solo cuando se piden con {@link #materializar}.
+ * </p>
+ * Esta clase no copia los arreglos que recibe ni los que entrega.
+ */
+public final class ColumnasPolitico {
+
+    /** Tamaño de la caché de fechas de {@link #materializar()}; potencia de dos. */
+    private static final int CACHE_FECHAS = 1024;
+
+    private final int[] dinero;
+    private final int[] epochDay;
+
+    /**
+     * Construye el conjunto a partir de sus columnas.
+     *
+     * @param dinero   Dinero de cada político.
+     * @param epochDay Fecha de cada político como día de época.
+     * @throws IllegalArgumentException si las columnas tienen distinta longitud.
+     */
+    public ColumnasPolitico(int[] dinero, int[] epochDay) {
+        Objects.requireNonNull(dinero, "La columna de dinero no puede ser null.");
+        Objects.requireNonNull(epochDay, "La columna de fechas no puede ser null.");
+        if (dinero.length != epochDay.length) {
+            throw new IllegalArgumentException("Las columnas deben tener la misma longitud: "
+                    + dinero.length + " != " + epochDay.length);
+        }
+        this.dinero = dinero;
+        this.epochDay = epochDay;
+    }
+
+    /**
+     * Convierte un arreglo de políticos a columnas.
+     *
+     * @param politicos Políticos a convertir (ninguno puede ser null).
+     * @return Conjunto por columnas con los mismos datos y en el mismo orden.
+     */
+    public static ColumnasPolitico desde(Politico[] politicos) {
+        int[] dinero = new int[politicos.length];
+        int[] epochDay = new int[politicos.length];
+        for (int i = 0; i < politicos.length; i++) {
+            dinero[i] = politicos[i].getDinero();
+            epochDay[i] = (int) politicos[i].getFecha().toEpochDay();
+        }
+        return new ColumnasPolitico(dinero, epochDay);
+    }
+
+    /**
+     * @return Cantidad de políticos del conjunto.
+     */
+    public int getTamanio() {
+        return dinero.length;
+    }
+
+    public int getDinero(int indice) {
+        return dinero[indice];
+    }
+
+    public int getEpochDay(int indice) {
+        return epochDay[indice];
+    }
+
+    public LocalDate getFecha(int indice) {
+        return LocalDate.ofEpochDay(epochDay[indice]);
+    }
+
+    /**
+     * Columna de dinero. ¡Precaución! Es el arreglo interno; modificarlo modifica el conjunto.
+     *
+     * @return Arreglo de dinero.
+     */
+    public int[] getColumnaDinero() {
+        return dinero;
+    }
+
+    /**
+     * Columna de fechas como días de época. ¡Precaución! Es el arreglo interno.
+     *
+     * @return Arreglo de días de época.
+     */
+    public int[] getColumnaEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Crea el político de la posición indicada.
+     *
+     * @param indice Posición en el conjunto.
+     * @return Un nuevo {@link Politico}.
+     */
+    public Politico materializar(int indice) {
+        return new Politico(dinero[indice], LocalDate.ofEpochDay(epochDay[indice]));
+    }
+
+    /**
+     * Crea todos los políticos del conjunto. Como {@link LocalDate} es inmutable, los políticos
+     * con la misma fecha comparten instancia mediante una caché pequeña de acceso directo.
+     *
+     * @return Arreglo de políticos en el mismo orden que las columnas.
+     */
+    public Politico[] materializar() {
+        Politico[] politicos = new Politico[dinero.length];
+        LocalDate[] fechas = new LocalDate[CACHE_FECHAS];
+        for (int i = 0; i < politicos.length; i++) {
+            int dia = epochDay[i];
+            int ranura = dia & (CACHE_FECHAS - 1);
+            LocalDate fecha = fechas[ranura];
+            if (fecha == null || fecha.toEpochDay() != dia) {
+                fecha = LocalDate.ofEpochDay(dia);
+                fechas[ranura] = fecha;
+            }
+            politicos[i] = new Politico(dinero[i], fecha);
+        }
+        return politicos;
+    }
+}
@@ -0,0 +1,130 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Construcción en bloque de cadenas de nodos a partir de un arreglo, compartida por los métodos
+ * {@code fromArray} y {@code fromArrayParalelo} de las listas. Los constructores de copia recorren
+ * los nodos de la otra lista con su propio ciclo, con la misma idea pero sin pasar por un arreglo.
+ * <p>
+ * Los nodos se enlazan en un único ciclo y la lista fija cabeza, cola y tamaño una sola vez, sin
+ * las comprobaciones de {@code insertarAlFinal} por elemento. La variante paralela reparte el
+ * arreglo en tramos contiguos, construye la cadena de cada tramo en el pool común y luego une las
+ * cadenas en orden, lo que cuesta O(cantidad de tramos) adicional.
+ * </p>
+ */
+final class ConstruccionEnBloque {
+
+    /** Por debajo de este tamaño la construcción paralela no compensa y se hace secuencial. */
+    static final int UMBRAL_PARALELO = 1 << 15;
+
+    private ConstruccionEnBloque() {
+    }
+
+    /**
+     * Extremos de una cadena de nodos ya enlazada.
+     */
+    static final class Cadena<N> {
+        final N cabeza;
+        final N cola;
+
+        Cadena(N cabeza, N cola) {
+            this.cabeza = cabeza;
+            this.cola = cola;
+        }
+    }
+
+    /**
+     * Enlaza los datos {@code [desde, hasta)} en nodos simples. El siguiente de la cola queda en {@code null}.
+     */
+    static <T> Cadena<Nodo<T>> simples(T[] datos, int desde, int hasta) {
+        if (desde >= hasta) {
+            return new Cadena<>(null, null);
+        }
+        Nodo<T> cabeza = new Nodo<>(datos[desde]);
+        Nodo<T> cola = cabeza;
+        for (int i = desde + 1; i < hasta; i++) {
+            Nodo<T> nuevo = new Nodo<>(datos[i]);
+            cola.setSiguiente(nuevo);
+            cola = nuevo;
+        }
+        return new Cadena<>(cabeza, cola);
+    }
+
+    /**
+     * Enlaza los datos {@code [desde, hasta)} en nodos dobles. Los extremos exteriores quedan en {@code null}.
+     */
+    static <T> Cadena<NodoDoble<T>> dobles(T[] datos, int desde, int hasta) {
+        if (desde >= hasta) {
+            return new Cadena<>(null, null);
+        }
+        NodoDoble<T> cabeza = new NodoDoble<>(datos[desde], null, null);
+        NodoDoble<T> cola = cabeza;
+        for (int i = desde + 1; i < hasta; i++) {
+            NodoDoble<T> nuevo = new NodoDoble<>(datos[i], cola, null);
+            cola.setSiguiente(nuevo);
+            cola = nuevo;
+        }
+        return new Cadena<>(cabeza, cola);
+    }
+
+    /**
+     * Como {@link #simples} sobre todo el arreglo, construyendo los tramos en paralelo si es grande.
+     */
+    static <T> Cadena<Nodo<T>> simplesEnParalelo(T[] datos) {
+        int tramos = cantidadDeTramos(datos.length);
+        if (tramos == 1) {
+            return simples(datos, 0, datos.length);
+        }
+        Cadena<Nodo<T>>[] cadenas = construirTramos(datos.length, tramos, (desde, hasta) -> simples(datos, desde, hasta));
+        for (int t = 0; t < tramos - 1; t++) {
+            cadenas[t].cola.setSiguiente(cadenas[t + 1].cabeza);
+        }
+        return new Cadena<>(cadenas[0].cabeza, cadenas[tramos - 1].cola);
+    }
+
+    /**
+     * Como {@link #dobles} sobre todo el arreglo, construyendo los tramos en paralelo si es grande.
+     */
+    static <T> Cadena<NodoDoble<T>> doblesEnParalelo(T[] datos) {
+        int tramos = cantidadDeTramos(datos.length);
+        if (tramos == 1) {
+            return dobles(datos, 0, datos.length);
+        }
+        Cadena<NodoDoble<T>>[] cadenas = construirTramos(datos.length, tramos, (desde, hasta) -> dobles(datos, desde, hasta));
+        for (int t = 0; t < tramos - 1; t++) {
+            cadenas[t].cola.setSiguiente(cadenas[t + 1].cabeza);
+            cadenas[t + 1].cabeza.setAnterior(cadenas[t].cola);
+        }
+        return new Cadena<>(cadenas[0].cabeza, cadenas[tramos - 1].cola);
+    }
+
+    /**
+     * Tramos de al menos {@link #UMBRAL_PARALELO} elementos, hasta cuatro por hilo del pool común
+     * para repartir la carga si algún hilo se retrasa.
+     */
+    private static int cantidadDeTramos(int tamanno) {
+        if (tamanno < 2 * UMBRAL_PARALELO) {
+            return 1;
+        }
+        int porHilos = ForkJoinPool.getCommonPoolParallelism() * 4;
+        return Math.max(1, Math.min(porHilos, tamanno / UMBRAL_PARALELO));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <N> Cadena<N>[] construirTramos(int tamanno, int tramos, ConstructorDeTramo<N> constructor) {
+        Cadena<N>[] cadenas = (Cadena<N>[]) new Cadena<?>[tramos];
+        // La terminación del stream paralelo garantiza que el hilo actual ve las cadenas construidas
+        IntStream.range(0, tramos).parallel().forEach(t -> {
+            int desde = (int) ((long) tamanno * t / tramos);
+            int hasta = (int) ((long) tamanno * (t + 1) / tramos);
+            cadenas[t] = constructor.construir(desde, hasta);
+        });
+        return cadenas;
+    }
+
+    private interface ConstructorDeTramo<N> {
+        Cadena<N> construir(int desde, int hasta);
+    }
+}
@@ -0,0 +1,129 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Índice hash de {@link ListaEnlazadaDoble}: asocia cada dato con su nodo, o con sus nodos en
+ * orden de lista si hay datos repetidos. Lo mantiene la propia lista en su modo indexado.
+ * <p>
+ * Para no reservar una lista auxiliar por elemento, el valor del mapa es el {@link NodoDoble}
+ * cuando el dato aparece una vez y una {@code List<NodoDoble>} solo cuando aparece varias veces.
+ * </p>
+ *
+ * @param <T> El tipo de los datos indexados.
+ */
+class IndiceHashNodos<T> {
+
+    private final HashMap<T, Object> nodos;
+
+    IndiceHashNodos(int capacidadEsperada) {
+        this.nodos = HashMap.newHashMap(capacidadEsperada);
+    }
+
+    /**
+     * Primer nodo de la lista con el dato, o {@code null} si no está. O(1) esperado.
+     */
+    @SuppressWarnings("unchecked")
+    NodoDoble<T> primero(T dato) {
+        Object valor = nodos.get(dato);
+        if (valor instanceof List<?> repetidos) {
+            return (NodoDoble<T>) repetidos.get(0);
+        }
+        return (NodoDoble<T>) valor;
+    }
+
+    boolean contiene(T dato) {
+        return nodos.containsKey(dato);
+    }
+
+    /**
+     * Registra un nodo que quedó antes que cualquier otro nodo con el mismo dato.
+     */
+    void agregarAlInicio(NodoDoble<T> nodo) {
+        agregar(nodo, 0);
+    }
+
+    /**
+     * Registra un nodo que quedó después que cualquier otro nodo con el mismo dato.
+     */
+    void agregarAlFinal(NodoDoble<T> nodo) {
+        agregar(nodo, -1);
+    }
+
+    /**
+     * Registra un nodo insertado en medio de la lista. Si su dato ya está repetido, recorre la
+     * lista hacia adelante hasta el siguiente nodo con el mismo dato para ubicarlo en orden.
+     */
+    void agregarEnMedio(NodoDoble<T> nodo) {
+        Object valor = nodos.get(nodo.getDato());
+        if (valor == null) {
+            nodos.put(nodo.getDato(), nodo);
+            return;
+        }
+        List<NodoDoble<T>> repetidos = comoLista(nodo.getDato(), valor);
+        for (NodoDoble<T> actual = nodo.getSiguiente(); actual != null; actual = actual.getSiguiente()) {
+            if (Objects.equals(actual.getDato(), nodo.getDato())) {
+                repetidos.add(indiceDe(repetidos, actual), nodo);
+                return;
+            }
+        }
+        repetidos.add(nodo);
+    }
+
+    /**
+     * Quita el registro de un nodo que se eliminó de la lista.
+     */
+    @SuppressWarnings("unchecked")
+    void quitar(NodoDoble<T> nodo) {
+        Object valor = nodos.get(nodo.getDato());
+        if (valor instanceof List<?> lista) {
+            List<NodoDoble<T>> repetidos = (List<NodoDoble<T>>) lista;
+            repetidos.remove(indiceDe(repetidos, nodo));
+            if (repetidos.size() == 1) {
+                nodos.put(nodo.getDato(), repetidos.get(0));
+            }
+        } else if (valor == nodo) {
+            nodos.remove(nodo.getDato());
+        }
+    }
+
+    void limpiar() {
+        nodos.clear();
+    }
+
+    private void agregar(NodoDoble<T> nodo, int posicion) {
+        Object valor = nodos.putIfAbsent(nodo.getDato(), nodo);
+        if (valor == null) {
+            return;
+        }
+        List<NodoDoble<T>> repetidos = comoLista(nodo.getDato(), valor);
+        if (posicion < 0) {
+            repetidos.add(nodo);
+        } else {
+            repetidos.add(posicion, nodo);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NodoDoble<T>> comoLista(T dato, Object valor) {
+        if (valor instanceof List<?> lista) {
+            return (List<NodoDoble<T>>) lista;
+        }
+        List<NodoDoble<T>> repetidos = new ArrayList<>(2);
+        repetidos.add((NodoDoble<T>) valor);
+        nodos.put(dato, repetidos);
+        return repetidos;
+    }
+
+    private static <T> int indiceDe(List<NodoDoble<T>> repetidos, NodoDoble<T> nodo) {
+        for (int i = 0; i < repetidos.size(); i++) {
+            if (repetidos.get(i) == nodo) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("El nodo no está en el índice.");
+    }
+}
@@ -0,0 +1,341 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Índice skip list sobre una {@link ListaEnlazadaSimple} o {@link ListaEnlazadaDoble} ya ordenada
+ * de forma ascendente.
+ * <p>
+ * Cada elemento de la lista tiene una entrada en el índice con una torre de enlaces de altura
+ * aleatoria (probabilidad 1/2 por nivel). El nivel 0 enlaza todas las entradas en el mismo orden
+ * que la lista y cada entrada conoce su nodo, así que búsquedas, predecesores, inserciones en orden
+ * y eliminaciones cuestan O(log n) esperado en lugar del recorrido lineal de la lista. Las
+ * inserciones y eliminaciones hechas con {@link #insertar} y {@link #eliminar} actualizan la lista
+ * y el índice a la vez.
+ * </p>
+ * <p>
+ * El índice recuerda el contador de modificaciones de la lista
+ * ({@link ListaEnlazadaSimple#getModificaciones()}). Si la lista se modifica por otro camino
+ * ({@code insertarAlInicio}, {@code insertarAlFinal}, {@code eliminar}, un ordenamiento...), el
+ * índice queda invalidado y sus operaciones lanzan {@link IllegalStateException} hasta construir
+ * uno nuevo. Los cambios hechos directamente sobre los nodos, como el intercambio de datos de
+ * algunas estrategias de ordenamiento, no se detectan.
+ * </p>
+ *
+ * @param <T> El tipo de elementos de la lista; el orden es el de {@link Comparable} y la igualdad
+ *            la de {@link Objects#equals}.
+ */
+public class IndiceSkipList<T extends Comparable<? super T>> {
+
+    /** Altura máxima de una torre; suficiente para cualquier lista con tamaño {@code int}. */
+    static final int NIVEL_MAXIMO = 32;
+
+    private final Enlaces<T> enlaces;
+    private final Entrada<T> cabecera = new Entrada<>(null, null, NIVEL_MAXIMO);
+    private final SplittableRandom aleatorio = new SplittableRandom();
+    /** Cantidad de niveles con al menos una entrada (como mínimo 1). */
+    private int nivel = 1;
+    private int tamanno;
+    private int modificacionesEsperadas;
+
+    private IndiceSkipList(Enlaces<T> enlaces) {
+        this.enlaces = enlaces;
+    }
+
+    /**
+     * Construye el índice sobre una lista simple ordenada en O(n).
+     *
+     * @param lista Lista ordenada de forma ascendente.
+     * @return Índice vigente sobre la lista.
+     * @throws IllegalArgumentException si la lista no está ordenada.
+     */
+    public static <T extends Comparable<? super T>> IndiceSkipList<T> construir(ListaEnlazadaSimple<T> lista) {
+        IndiceSkipList<T> indice = new IndiceSkipList<>(new EnlacesSimple<>(lista));
+        Entrada<T>[] ultimos = indice.ultimosParaConstruir();
+        for (Nodo<T> actual = lista.getCabeza(); actual != null; actual = actual.getSiguiente()) {
+            indice.enlazarAlFinal(ultimos, actual.getDato(), actual);
+        }
+        indice.modificacionesEsperadas = lista.getModificaciones();
+        return indice;
+    }
+
+    /**
+     * Construye el índice sobre una lista doble ordenada en O(n).
+     *
+     * @param lista Lista ordenada de forma ascendente.
+     * @return Índice vigente sobre la lista.
+     * @throws IllegalArgumentException si la lista no está ordenada.
+     */
+    public static <T extends Comparable<? super T>> IndiceSkipList<T> construir(ListaEnlazadaDoble<T> lista) {
+        IndiceSkipList<T> indice = new IndiceSkipList<>(new EnlacesDoble<>(lista));
+        Entrada<T>[] ultimos = indice.ultimosParaConstruir();
+        for (NodoDoble<T> actual = lista.getCabeza(); actual != null; actual = actual.getSiguiente()) {
+            indice.enlazarAlFinal(ultimos, actual.getDato(), actual);
+        }
+        indice.modificacionesEsperadas = lista.getModificaciones();
+        return indice;
+    }
+
+    /**
+     * Indica si la lista no se modificó fuera del índice desde que se construyó o se usó por
+     * última vez para insertar o eliminar.
+     *
+     * @return {@code true} si el índice puede usarse.
+     */
+    public boolean esVigente() {
+        return enlaces.modificaciones() == modificacionesEsperadas;
+    }
+
+    /**
+     * @return Cantidad de elementos indexados.
+     */
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    /**
+     * Indica si la lista contiene el elemento. O(log n) esperado más los elementos con la misma
+     * clave de orden.
+     *
+     * @param dato El dato a buscar, comparado con {@link Objects#equals}.
+     * @return {@code true} si algún elemento es igual a {@code dato}.
+     * @throws IllegalStateException si el índice quedó desactualizado.
+     */
+    public boolean contiene(T dato) {
+        verificarVigente();
+        for (Entrada<T> e = buscarAnterior(dato, false, null).siguientes[0];
+             e != null && e.dato.compareTo(dato) == 0; e = e.siguientes[0]) {
+            if (Objects.equals(e.dato, dato)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca el primer elemento cuya clave de orden es igual a la indicada.
+     *
+     * @param clave Clave a buscar.
+     * @return El primer elemento con {@code compareTo(clave) == 0}, o {@code null} si no hay.
+     * @throws IllegalStateException si el índice quedó desactualizado.
+     */
+    public T buscar(T clave) {
+        verificarVigente();
+        Entrada<T> e = buscarAnterior(clave, false, null).siguientes[0];
+        return e != null && e.dato.compareTo(clave) == 0 ? e.dato : null;
+    }
+
+    /**
+     * Busca el mayor elemento estrictamente menor que la clave.
+     *
+     * @param clave Clave de referencia.
+     * @return El predecesor, o {@code null} si todos los elementos son mayores o iguales.
+     * @throws IllegalStateException si el índice quedó desactualizado.
+     */
+    public T predecesor(T clave) {
+        verificarVigente();
+        return buscarAnterior(clave, false, null).dato;
+    }
+
+    /**
+     * Inserta el elemento en su posición ordenada, en la lista y en el índice, después de los
+     * elementos con la misma clave. O(log n) esperado.
+     *
+     * @param dato El dato a insertar.
+     * @throws IllegalStateException si el índice quedó desactualizado.
+     */
+    public void insertar(T dato) {
+        verificarVigente();
+        @SuppressWarnings("unchecked")
+        Entrada<T>[] camino = (Entrada<T>[]) new Entrada<?>[NIVEL_MAXIMO];
+        Entrada<T> anterior = buscarAnterior(dato, true, camino);
+
+        Object nodo = enlaces.insertarDespues(anterior == cabecera ? null : anterior.nodo, dato);
+        Entrada<T> nueva = new Entrada<>(dato, nodo, alturaAleatoria());
+        int altura = nueva.siguientes.length;
+        for (int l = nivel; l < altura; l++) {
+            camino[l] = cabecera;
+        }
+        nivel = Math.max(nivel, altura);
+        for (int l = 0; l < altura; l++) {
+            nueva.siguientes[l] = camino[l].siguientes[l];
+            camino[l].siguientes[l] = nueva;
+        }
+        tamanno++;
+        modificacionesEsperadas = enlaces.modificaciones();
+    }
+
+    /**
+     * Elimina la primera ocurrencia del elemento, de la lista y del índice. O(log n) esperado más
+     * los elementos con la misma clave de orden.
+     *
+     * @param dato El dato a eliminar, comparado con {@link Objects#equals}.
+     * @return {@code true} si el elemento fue encontrado y eliminado.
+     * @throws IllegalStateException si el índice quedó desactualizado.
+     */
+    public boolean eliminar(T dato) {
+        verificarVigente();
+        @SuppressWarnings("unchecked")
+        Entrada<T>[] camino = (Entrada<T>[]) new Entrada<?>[NIVEL_MAXIMO];
+        Entrada<T> e = buscarAnterior(dato, false, camino).siguientes[0];
+        while (e != null && e.dato.compareTo(dato) == 0 && !Objects.equals(e.dato, dato)) {
+            for (int l = 0; l < e.siguientes.length; l++) {
+                camino[l] = e;
+            }
+            e = e.siguientes[0];
+        }
+        if (e == null || e.dato.compareTo(dato) != 0) {
+            return false;
+        }
+
+        enlaces.eliminar(camino[0] == cabecera ? null : camino[0].nodo, e.nodo);
+        for (int l = 0; l < e.siguientes.length; l++) {
+            camino[l].siguientes[l] = e.siguientes[l];
+        }
+        while (nivel > 1 && cabecera.siguientes[nivel - 1] == null) {
+            nivel--;
+        }
+        tamanno--;
+        modificacionesEsperadas = enlaces.modificaciones();
+        return true;
+    }
+
+    /**
+     * Desciende desde el nivel más alto hasta el 0 buscando la última entrada menor que la clave
+     * (o menor o igual si {@code incluirIguales}).
+     *
+     * @param camino Si no es {@code null}, recibe la última entrada visitada en cada nivel.
+     * @return La entrada encontrada en el nivel 0, o la cabecera si no hay ninguna.
+     */
+    private Entrada<T> buscarAnterior(T clave, boolean incluirIguales, Entrada<T>[] camino) {
+        Entrada<T> x = cabecera;
+        for (int l = nivel - 1; l >= 0; l--) {
+            Entrada<T> siguiente = x.siguientes[l];
+            while (siguiente != null && precede(siguiente.dato, clave, incluirIguales)) {
+                x = siguiente;
+                siguiente = x.siguientes[l];
+            }
+            if (camino != null) {
+                camino[l] = x;
+            }
+        }
+        return x;
+    }
+
+    private static <T extends Comparable<? super T>> boolean precede(T dato, T clave, boolean incluirIguales) {
+        int comparacion = dato.compareTo(clave);
+        return comparacion < 0 || (incluirIguales && comparacion == 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entrada<T>[] ultimosParaConstruir() {
+        Entrada<T>[] ultimos = (Entrada<T>[]) new Entrada<?>[NIVEL_MAXIMO];
+        Arrays.fill(ultimos, cabecera);
+        return ultimos;
+    }
+
+    private void enlazarAlFinal(Entrada<T>[] ultimos, T dato, Object nodo) {
+        if (ultimos[0] != cabecera && ultimos[0].dato.compareTo(dato) > 0) {
+            throw new IllegalArgumentException("La lista no está ordenada: " + ultimos[0].dato + " precede a " + dato);
+        }
+        Entrada<T> entrada = new Entrada<>(dato, nodo, alturaAleatoria());
+        for (int l = 0; l < entrada.siguientes.length; l++) {
+            ultimos[l].siguientes[l] = entrada;
+            ultimos[l] = entrada;
+        }
+        nivel = Math.max(nivel, entrada.siguientes.length);
+        tamanno++;
+    }
+
+    /**
+     * Altura geométrica: 1 con probabilidad 1/2, 2 con 1/4... hasta {@link #NIVEL_MAXIMO}.
+     */
+    private int alturaAleatoria() {
+        return Integer.numberOfTrailingZeros(aleatorio.nextInt() | (1 << (NIVEL_MAXIMO - 1))) + 1;
+    }
+
+    private void verificarVigente() {
+        if (!esVigente()) {
+            throw new IllegalStateException("El índice está desactualizado: la lista se modificó sin pasar por él.");
+        }
+    }
+
+    /**
+     * Entrada del índice: un dato, su nodo en la lista y la torre de enlaces al siguiente de cada nivel.
+     */
+    private static final class Entrada<T> {
+        final T dato;
+        final Object nodo;
+        final Entrada<T>[] siguientes;
+
+        @SuppressWarnings("unchecked")
+        Entrada(T dato, Object nodo, int altura) {
+            this.dato = dato;
+            this.nodo = nodo;
+            this.siguientes = (Entrada<T>[]) new Entrada<?>[altura];
+        }
+    }
+
+    /**
+     * Operaciones O(1) sobre la lista indexada, independientes de su tipo de nodo.
+     */
+    private interface Enlaces<T> {
+        int modificaciones();
+
+        Object insertarDespues(Object anterior, T dato);
+
+        void eliminar(Object anterior, Object nodo);
+    }
+
+    private static final class EnlacesSimple<T> implements Enlaces<T> {
+        private final ListaEnlazadaSimple<T> lista;
+
+        EnlacesSimple(ListaEnlazadaSimple<T> lista) {
+            this.lista = lista;
+        }
+
+        @Override
+        public int modificaciones() {
+            return lista.getModificaciones();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object insertarDespues(Object anterior, T dato) {
+            return lista.insertarDespues((Nodo<T>) anterior, dato);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void eliminar(Object anterior, Object nodo) {
+            lista.eliminarDespues((Nodo<T>) anterior);
+        }
+    }
+
+    private static final class EnlacesDoble<T> implements Enlaces<T> {
+        private final ListaEnlazadaDoble<T> lista;
+
+        EnlacesDoble(ListaEnlazadaDoble<T> lista) {
+            this.lista = lista;
+        }
+
+        @Override
+        public int modificaciones() {
+            return lista.getModificaciones();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object insertarDespues(Object anterior, T dato) {
+            return lista.insertarDespues((NodoDoble<T>) anterior, dato);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void eliminar(Object anterior, Object nodo) {
+            lista.eliminarNodo((NodoDoble<T>) nodo);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Implementación de una lista enlazada desenrollada genérica.
+ * Cada {@link NodoDesenrollado} guarda un arreglo pequeño de elementos (32 por defecto), así que
+ * la lista conserva la inserción y eliminación local de una lista enlazada pero los recorridos
+ * avanzan por memoria contigua y solo siguen un puntero cada {@code capacidadNodo} elementos.
+ * <p>
+ * Invariante: ningún nodo de la lista está vacío. Las eliminaciones fusionan un nodo con su
+ * siguiente cuando ambos caben en uno, de modo que los nodos se mantienen al menos medio llenos
+ * salvo el último.
+ * </p>
+ *
+ * @param <T> El tipo de elementos almacenados en la lista.
+ */
+public class ListaEnlazadaDesenrollada<T> {
+
+    /** Capacidad de los nodos cuando no se indica otra. */
+    public static final int CAPACIDAD_NODO_POR_DEFECTO = 32;
+
+    /** Referencia al primer nodo de la lista. {@code null} si la lista está vacía. */
+    private NodoDesenrollado<T> cabeza;
+    /** Referencia al último nodo de la lista. {@code null} si la lista está vacía. */
+    private NodoDesenrollado<T> cola;
+    /** Número actual de elementos en la lista (no de nodos). */
+    private int tamanno;
+    /** Cantidad máxima de elementos por nodo. */
+    private final int capacidadNodo;
+
+    /**
+     * Construye una lista vacía con nodos de {@value #CAPACIDAD_NODO_POR_DEFECTO} elementos.
+     */
+    public ListaEnlazadaDesenrollada() {
+        this(CAPACIDAD_NODO_POR_DEFECTO);
+    }
+
+    /**
+     * Construye una lista vacía con la capacidad de nodo indicada.
+     *
+     * @param capacidadNodo Elementos por nodo (al menos 2).
+     * @throws IllegalArgumentException si la capacidad es menor que 2.
+     */
+    public ListaEnlazadaDesenrollada(int capacidadNodo) {
+        if (capacidadNodo < 2) {
+            throw new IllegalArgumentException("La capacidad del nodo debe ser al menos 2");
+        }
+        this.capacidadNodo = capacidadNodo;
+    }
+
+    /**
+     * Comprueba si la lista no contiene elementos.
+     * @return {@code true} si el tamaño es 0, {@code false} en caso contrario.
+     */
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    /**
+     * Devuelve el número de elementos actualmente en la lista.
+     * @return El tamaño (entero no negativo).
+     */
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public int getCapacidadNodo() {
+        return capacidadNodo;
+    }
+
+    /**
+     * Obtiene el primer nodo de la lista.
+     * ¡Precaución! Modificar el nodo devuelto externamente puede romper la lista.
+     * @return El primer {@link NodoDesenrollado}, o {@code null} si la lista está vacía.
+     */
+    public NodoDesenrollado<T> getCabeza() {
+        return cabeza;
+    }
+
+    /**
+     * Obtiene el último nodo de la lista.
+     * @return El último {@link NodoDesenrollado}, o {@code null} si la lista está vacía.
+     */
+    public NodoDesenrollado<T> getCola() {
+        return cola;
+    }
+
+    /**
+     * Reemplaza todo el contenido de la lista por una cadena de nodos ya enlazada.
+     * Operación de tiempo constante O(1): el llamador garantiza que {@code cola} es el último nodo
+     * alcanzable desde {@code cabeza}, que ningún nodo está vacío y que la cadena suma
+     * {@code tamanno} elementos. El siguiente de {@code cola} se fija en {@code null}.
+     *
+     * @param cabeza Primer nodo de la cadena, o {@code null} para dejar la lista vacía.
+     * @param cola Último nodo de la cadena.
+     * @param tamanno Cantidad total de elementos de la cadena.
+     */
+    public void reemplazarNodos(NodoDesenrollado<T> cabeza, NodoDesenrollado<T> cola, int tamanno) {
+        if (cabeza == null) {
+            this.cabeza = null;
+            this.cola = null;
+            this.tamanno = 0;
+            return;
+        }
+        cola.setSiguiente(null);
+        this.cabeza = cabeza;
+        this.cola = cola;
+        this.tamanno = tamanno;
+    }
+
+    /**
+     * Inserta un elemento al principio de la lista.
+     * Si el primer nodo está lleno se antepone un nodo nuevo, que se irá llenando con las
+     * siguientes inserciones al inicio.
+     * @param dato El dato a insertar.
+     */
+    public void insertarAlInicio(T dato) {
+        if (cabeza == null || cabeza.estaLleno()) {
+            NodoDesenrollado<T> nuevoNodo = new NodoDesenrollado<>(capacidadNodo);
+            nuevoNodo.setSiguiente(cabeza);
+            cabeza = nuevoNodo;
+            if (cola == null) {
+                cola = nuevoNodo;
+            }
+        }
+        cabeza.insertar(0, dato);
+        tamanno++;
+    }
+
+    /**
+     * Inserta un elemento al final de la lista.
+     * Operación de tiempo constante O(1); las inserciones consecutivas llenan cada nodo por completo.
+     * @param dato El dato a insertar.
+     */
+    public void insertarAlFinal(T dato) {
+        if (cola == null || cola.estaLleno()) {
+            NodoDesenrollado<T> nuevoNodo = new NodoDesenrollado<>(capacidadNodo);
+            if (cola == null) {
+                cabeza = nuevoNodo;
+            } else {
+                cola.setSiguiente(nuevoNodo);
+            }
+            cola = nuevoNodo;
+        }
+        cola.agregar(dato);
+        tamanno++;
+    }
+
+    /**
+     * Obtiene el elemento en la posición indicada saltando nodos completos.
+     * La búsqueda es O(n / capacidadNodo).
+     *
+     * @param indice Posición en {@code [0, tamanno)}.
+     * @return El dato en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango.
+     */
+    public T obtener(int indice) {
+        Objects.checkIndex(indice, tamanno);
+        NodoDesenrollado<T> actual = cabeza;
+        while (indice >= actual.getCantidad()) {
+            indice -= actual.getCantidad();
+            actual = actual.getSiguiente();
+        }
+        return actual.get(indice);
+    }
+
+    /**
+     * Elimina y devuelve el elemento que se encuentra al principio de la lista.
+     *
+     * @return El dato del elemento eliminado.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    public T eliminarAlInicio() {
+        if (estaVacia()) {
+            throw new NoSuchElementException("La lista está vacía, no se puede eliminar al inicio.");
+        }
+        return quitarDe(null, cabeza, 0);
+    }
+
+    /**
+     * Elimina la primera ocurrencia del elemento especificado {@code dato} de la lista.
+     * Utiliza {@code Objects.equals()} para la comparación. La búsqueda es O(n).
+     *
+     * @param dato El dato del elemento a eliminar.
+     * @return {@code true} si el elemento fue encontrado y eliminado, {@code false} en caso contrario.
+     */
+    public boolean eliminar(T dato) {
+        NodoDesenrollado<T> anterior = null;
+        for (NodoDesenrollado<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            for (int i = 0; i < actual.getCantidad(); i++) {
+                if (Objects.equals(actual.get(i), dato)) {
+                    quitarDe(anterior, actual, i);
+                    return true;
+                }
+            }
+            anterior = actual;
+        }
+        return false;
+    }
+
+    /**
+     * Indica si la lista contiene el elemento, usando {@code Objects.equals()}. La búsqueda es O(n).
+     *
+     * @param dato El dato a buscar.
+     * @return {@code true} si algún elemento es igual a {@code dato}.
+     */
+    public boolean contiene(T dato) {
+        for (NodoDesenrollado<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            for (int i = 0; i < actual.getCantidad(); i++) {
+                if (Objects.equals(actual.get(i), dato)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Crea una copia de la lista con los mismos elementos en el mismo orden y nodos completamente
+     * llenos. Los elementos no se copian, solo sus referencias.
+     *
+     * @return Lista nueva independiente de esta.
+     */
+    public ListaEnlazadaDesenrollada<T> copiar() {
+        ListaEnlazadaDesenrollada<T> copia = new ListaEnlazadaDesenrollada<>(capacidadNodo);
+        for (NodoDesenrollado<T> actual = cabeza; actual != null; actual = actual.getSiguiente()) {
+            for (int i = 0; i < actual.getCantidad(); i++) {
+                copia.insertarAlFinal(actual.get(i));
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Quita el elemento {@code indice} de {@code nodo}. Si el nodo queda vacío se desenlaza; si queda
+     * por debajo de la mitad y cabe junto con el siguiente, absorbe al siguiente.
+     *
+     * @param anterior Nodo previo a {@code nodo}, o {@code null} si {@code nodo} es la cabeza.
+     */
+    private T quitarDe(NodoDesenrollado<T> anterior, NodoDesenrollado<T> nodo, int indice) {
+        T dato = nodo.quitar(indice);
+        tamanno--;
+
+        if (nodo.getCantidad() == 0) {
+            NodoDesenrollado<T> siguiente = nodo.getSiguiente();
+            if (anterior == null) {
+                cabeza = siguiente;
+            } else {
+                anterior.setSiguiente(siguiente);
+            }
+            if (nodo == cola) {
+                cola = anterior;
+            }
+            nodo.setSiguiente(null);
+        } else {
+            NodoDesenrollado<T> siguiente = nodo.getSiguiente();
+            if (siguiente != null && nodo.getCantidad() < capacidadNodo / 2
+                    && nodo.getCantidad() + siguiente.getCantidad() <= capacidadNodo) {
+                NodoDesenrollado<T> despues = siguiente.getSiguiente();
+                nodo.absorber(siguiente);
+                nodo.setSiguiente(despues);
+                if (siguiente == cola) {
+                    cola = nodo;
+                }
+            }
+        }
+        return dato;
+    }
+}
@@ -1,16 +1,27 @@
 package com.mycompany.sort.model.politico;
 
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación de una lista doblemente enlazada genérica.
  * Cada nodo mantiene referencias al nodo anterior y al siguiente, permitiendo
  * recorrido bidireccional y operaciones eficientes (O(1)) de inserción/eliminación
  * en ambos extremos (cabeza y cola).
+ * <p>
+ * En modo indexado ({@link #activarIndice()}) la lista mantiene además un mapa hash de cada dato
+ * a sus nodos, de modo que {@link #eliminar} y {@link #contiene} cuestan O(1) esperado en lugar
+ * de recorrer la lista. Las inserciones y eliminaciones de la lista actualizan el índice; si los
+ * datos de los nodos se cambian directamente (como hacen las estrategias que intercambian datos)
+ * hay que llamar a {@link #reconstruirIndice()}.
+ * </p>
  *
  * @param <T> El tipo de elementos almacenados en la lista.
  */
-public class ListaEnlazadaDoble<T> {
+public class ListaEnlazadaDoble<T> implements Iterable<T> {
     
     /** Referencia al primer nodo de la lista (cabeza). {@code null} si la lista está vacía. */
     private NodoDoble<T> cabeza;
@@ -18,6 +29,10 @@ public class ListaEnlazadaDoble<T> {
     private NodoDoble<T> cola;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Cantidad de modificaciones estructurales; permite detectar índices desactualizados. */
+    private int modificaciones;
+    /** Índice hash de datos a nodos; {@code null} si la lista no está en modo indexado. */
+    private IndiceHashNodos<T> indice;
 
     /**
      * Construye una lista doblemente enlazada vacía.
@@ -28,6 +43,60 @@ public class ListaEnlazadaDoble<T> {
         this.tamanno = 0;
     }
 
+    /**
+     * Construye una copia de otra lista con nodos nuevos y los mismos datos en el mismo orden.
+     * Los nodos se enlazan en un único recorrido O(n); cabeza, cola y tamaño se fijan una vez.
+     * Si la otra lista está en modo indexado, la copia también, con el índice llenado en el mismo
+     * recorrido.
+     * @param otra Lista a copiar, no se modifica.
+     */
+    public ListaEnlazadaDoble(ListaEnlazadaDoble<T> otra) {
+        if (otra.indice != null) {
+            this.indice = new IndiceHashNodos<>(Math.max(16, otra.tamanno));
+        }
+        NodoDoble<T> nuevaCola = null;
+        for (NodoDoble<T> actual = otra.cabeza; actual != null; actual = actual.getSiguiente()) {
+            NodoDoble<T> nuevo = new NodoDoble<>(actual.getDato(), nuevaCola, null);
+            if (nuevaCola == null) {
+                this.cabeza = nuevo;
+            } else {
+                nuevaCola.setSiguiente(nuevo);
+            }
+            nuevaCola = nuevo;
+            if (this.indice != null) {
+                this.indice.agregarAlFinal(nuevo);
+            }
+        }
+        this.cola = nuevaCola;
+        this.tamanno = otra.tamanno;
+    }
+
+    /**
+     * Construye una lista con los elementos del arreglo en el mismo orden, enlazando todos los
+     * nodos en un único ciclo O(n).
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaDoble<T> fromArray(T[] datos) {
+        ListaEnlazadaDoble<T> lista = new ListaEnlazadaDoble<>();
+        ConstruccionEnBloque.Cadena<NodoDoble<T>> cadena = ConstruccionEnBloque.dobles(datos, 0, datos.length);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
+    /**
+     * Igual que {@link #fromArray} pero, para arreglos grandes, construye tramos de la lista en
+     * paralelo en el pool común y luego los une.
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaDoble<T> fromArrayParalelo(T[] datos) {
+        ListaEnlazadaDoble<T> lista = new ListaEnlazadaDoble<>();
+        ConstruccionEnBloque.Cadena<NodoDoble<T>> cadena = ConstruccionEnBloque.doblesEnParalelo(datos);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
     /**
      * Devuelve el número de elementos en la lista.
      * @return El tamaño actual de la lista.
@@ -36,6 +105,16 @@ public class ListaEnlazadaDoble<T> {
         return tamanno;
     }
 
+    /**
+     * Devuelve la cantidad de modificaciones estructurales (inserciones, eliminaciones y reemplazos
+     * de nodos) hechas a través de los métodos de la lista. Los cambios hechos directamente sobre
+     * los nodos no se cuentan.
+     * @return Contador de modificaciones.
+     */
+    public int getModificaciones() {
+        return modificaciones;
+    }
+
     /**
  * Obtiene el primer nodo de la lista doblemente enlazada (cabeza).
  * Si la lista está vacía, devuelve {@code null}.
@@ -52,9 +131,45 @@ public NodoDoble<T> getCabeza() {
  * @param cabeza El nuevo nodo cabeza de la lista.
  */
 public void setCabeza(NodoDoble<T> cabeza) {
+    this.modificaciones++;
     this.cabeza = cabeza;
+    if (indice != null) {
+        reconstruirIndice();
+    }
 }
 
+    /**
+     * Reemplaza todo el contenido de la lista por una cadena de nodos ya enlazada en ambos sentidos.
+     * Operación de tiempo constante O(1): el llamador garantiza que {@code cola} es el último nodo
+     * alcanzable desde {@code cabeza} y que la cadena tiene {@code tamanno} nodos. Los extremos
+     * exteriores ({@code cabeza.anterior} y {@code cola.siguiente}) se fijan en {@code null}.
+     * En modo indexado el índice se reconstruye, lo que recorre la cadena en O(n).
+     *
+     * @param cabeza Primer nodo de la cadena, o {@code null} para dejar la lista vacía.
+     * @param cola Último nodo de la cadena.
+     * @param tamanno Cantidad de nodos de la cadena.
+     */
+    public void reemplazarNodos(NodoDoble<T> cabeza, NodoDoble<T> cola, int tamanno) {
+        this.modificaciones++;
+        if (cabeza == null) {
+            this.cabeza = null;
+            this.cola = null;
+            this.tamanno = 0;
+            if (indice != null) {
+                indice.limpiar();
+            }
+            return;
+        }
+        cabeza.setAnterior(null);
+        cola.setSiguiente(null);
+        this.cabeza = cabeza;
+        this.cola = cola;
+        this.tamanno = tamanno;
+        if (indice != null) {
+            reconstruirIndice();
+        }
+    }
+
 
     /**
      * Comprueba si la lista está vacía.
@@ -80,6 +195,10 @@ public void setCabeza(NodoDoble<T> cabeza) {
             this.cabeza = nuevoNodo;
         }
         this.tamanno++;
+        this.modificaciones++;
+        if (indice != null) {
+            indice.agregarAlInicio(nuevoNodo);
+        }
     }
 
     /**
@@ -96,11 +215,45 @@ public void setCabeza(NodoDoble<T> cabeza) {
         this.cola.setSiguiente(nuevoNodo);
         this.cola = nuevoNodo;
         this.tamanno++;
+        this.modificaciones++;
+        if (indice != null) {
+            indice.agregarAlFinal(nuevoNodo);
+        }
+    }
+
+    /**
+     * Inserta un elemento inmediatamente después del nodo indicado.
+     * Operación de tiempo constante O(1).
+     *
+     * @param anterior Nodo de esta lista tras el cual insertar, o {@code null} para insertar al inicio.
+     * @param dato El dato a insertar.
+     * @return El nodo creado.
+     */
+    public NodoDoble<T> insertarDespues(NodoDoble<T> anterior, T dato) {
+        if (anterior == null) {
+            insertarAlInicio(dato);
+            return this.cabeza;
+        }
+        if (anterior == this.cola) {
+            insertarAlFinal(dato);
+            return this.cola;
+        }
+        NodoDoble<T> siguiente = anterior.getSiguiente();
+        NodoDoble<T> nuevoNodo = new NodoDoble<>(dato, anterior, siguiente);
+        anterior.setSiguiente(nuevoNodo);
+        siguiente.setAnterior(nuevoNodo);
+        this.tamanno++;
+        this.modificaciones++;
+        if (indice != null) {
+            indice.agregarEnMedio(nuevoNodo);
+        }
+        return nuevoNodo;
     }
 
     /**
      * Elimina la primera ocurrencia del elemento especificado {@code dato} de la lista.
-     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n).
+     * Utiliza {@code equals()} para la comparación. La búsqueda es O(n), u O(1) esperado en modo
+     * indexado.
      *
      * @param dato El dato del elemento a eliminar.
      * @return {@code true} si el elemento fue encontrado y eliminado, {@code false} en caso contrario.
@@ -118,11 +271,12 @@ public void setCabeza(NodoDoble<T> cabeza) {
      * Elimina el nodo especificado de la lista, actualizando correctamente
      * los enlaces de sus vecinos (si los tiene) y las referencias cabeza/cola
      * y el tamaño de la lista si es necesario.
-     * Este método centraliza la lógica de eliminación de nodos.
+     * Este método centraliza la lógica de eliminación de nodos. Operación de tiempo constante O(1).
      *
-     * @param nodoAEliminar El nodo que se va a quitar de la lista (no debe ser null).
+     * @param nodoAEliminar El nodo que se va a quitar de la lista (no debe ser null y debe
+     *                      pertenecer a esta lista).
      */
-    private void eliminarNodo(NodoDoble<T> nodoAEliminar) {
+    public void eliminarNodo(NodoDoble<T> nodoAEliminar) {
 
         NodoDoble<T> nodoAnterior = nodoAEliminar.getAnterior();
         NodoDoble<T> nodoSiguiente = nodoAEliminar.getSiguiente();
@@ -140,6 +294,10 @@ public void setCabeza(NodoDoble<T> cabeza) {
         }
 
         this.tamanno--;
+        this.modificaciones++;
+        if (indice != null) {
+            indice.quitar(nodoAEliminar);
+        }
 
         nodoAEliminar.setAnterior(null);
         nodoAEliminar.setSiguiente(null);
@@ -153,6 +311,9 @@ public void setCabeza(NodoDoble<T> cabeza) {
      * @return El {@link NodoDoble} que contiene el dato, o {@code null} si no se encuentra.
      */
     private NodoDoble<T> buscarNodo(T datoBusqueda) {
+        if (indice != null) {
+            return indice.primero(datoBusqueda);
+        }
         NodoDoble<T> actual = this.cabeza;
         while (actual != null) {
             if (Objects.equals(actual.getDato(), datoBusqueda)) {
@@ -163,4 +324,84 @@ public void setCabeza(NodoDoble<T> cabeza) {
         return null; 
     }
 
+    /**
+     * Indica si la lista contiene el elemento, usando {@code Objects.equals()}.
+     * La búsqueda es O(n), u O(1) esperado en modo indexado.
+     *
+     * @param dato El dato a buscar.
+     * @return {@code true} si algún elemento es igual a {@code dato}.
+     */
+    public boolean contiene(T dato) {
+        if (indice != null) {
+            return indice.contiene(dato);
+        }
+        return buscarNodo(dato) != null;
+    }
+
+    /**
+     * Activa el modo indexado construyendo el índice hash en O(n). Si ya estaba activo, lo reconstruye.
+     */
+    public void activarIndice() {
+        this.indice = new IndiceHashNodos<>(Math.max(16, tamanno));
+        reconstruirIndice();
+    }
+
+    /**
+     * Desactiva el modo indexado y libera el índice.
+     */
+    public void desactivarIndice() {
+        this.indice = null;
+    }
+
+    public boolean estaIndexada() {
+        return indice != null;
+    }
+
+    /**
+     * Vuelve a construir el índice recorriendo la lista, tras cambiar datos directamente en los
+     * nodos. No hace nada si la lista no está en modo indexado.
+     */
+    public void reconstruirIndice() {
+        if (indice == null) {
+            return;
+        }
+        indice.limpiar();
+        for (NodoDoble<T> actual = this.cabeza; actual != null; actual = actual.getSiguiente()) {
+            indice.agregarAlFinal(actual);
+        }
+    }
+
+    /**
+     * Devuelve un iterador de falla rápida sobre los elementos, de la cabeza a la cola.
+     * @return Iterador que lanza {@link java.util.ConcurrentModificationException} si la lista se
+     *         modifica estructuralmente durante el recorrido.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RecorridoNodos.Iterador<>(this.cabeza, tamanno, RecorridoNodos.doble(), this::getModificaciones);
+    }
+
+    /**
+     * Devuelve un spliterator ORDERED y SIZED de falla rápida que divide la lista en lotes
+     * crecientes, apto para {@link #parallelStream()}.
+     * @return Spliterator sobre los elementos de la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RecorridoNodos.Spliterador<>(this.cabeza, tamanno, RecorridoNodos.doble(), this::getModificaciones);
+    }
+
+    /**
+     * @return Stream secuencial de los elementos, en orden.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return Stream paralelo de los elementos, en orden.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -1,9 +1,13 @@
 package com.mycompany.sort.model.politico;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class ListaEnlazadaSimple<T> {
+public class ListaEnlazadaSimple<T> implements Iterable<T> {
     
     /** Referencia al primer nodo de la lista (cabeza). {@code null} si la lista está vacía. */
     private Nodo<T> cabeza;
@@ -11,6 +15,8 @@ public class ListaEnlazadaSimple<T> {
     private Nodo<T> cola;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Cantidad de modificaciones estructurales; permite detectar índices desactualizados. */
+    private int modificaciones;
 
     /**
      * Construye una lista enlazada simple vacía.
@@ -22,6 +28,52 @@ public class ListaEnlazadaSimple<T> {
         this.tamanno = 0;
     }
 
+    /**
+     * Construye una copia de otra lista con nodos nuevos y los mismos datos en el mismo orden.
+     * Los nodos se enlazan en un único recorrido O(n); cabeza, cola y tamaño se fijan una vez.
+     * @param otra Lista a copiar, no se modifica.
+     */
+    public ListaEnlazadaSimple(ListaEnlazadaSimple<T> otra) {
+        Nodo<T> nuevaCola = null;
+        for (Nodo<T> actual = otra.cabeza; actual != null; actual = actual.getSiguiente()) {
+            Nodo<T> nuevo = new Nodo<>(actual.getDato());
+            if (nuevaCola == null) {
+                this.cabeza = nuevo;
+            } else {
+                nuevaCola.setSiguiente(nuevo);
+            }
+            nuevaCola = nuevo;
+        }
+        this.cola = nuevaCola;
+        this.tamanno = otra.tamanno;
+    }
+
+    /**
+     * Construye una lista con los elementos del arreglo en el mismo orden, enlazando todos los
+     * nodos en un único ciclo O(n).
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaSimple<T> fromArray(T[] datos) {
+        ListaEnlazadaSimple<T> lista = new ListaEnlazadaSimple<>();
+        ConstruccionEnBloque.Cadena<Nodo<T>> cadena = ConstruccionEnBloque.simples(datos, 0, datos.length);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
+    /**
+     * Igual que {@link #fromArray} pero, para arreglos grandes, construye tramos de la lista en
+     * paralelo en el pool común y luego los une.
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaSimple<T> fromArrayParalelo(T[] datos) {
+        ListaEnlazadaSimple<T> lista = new ListaEnlazadaSimple<>();
+        ConstruccionEnBloque.Cadena<Nodo<T>> cadena = ConstruccionEnBloque.simplesEnParalelo(datos);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
     /**
      * Comprueba si la lista no contiene elementos.
      * @return {@code true} si el tamaño es 0, {@code false} en caso contrario.
@@ -48,7 +100,18 @@ public class ListaEnlazadaSimple<T> {
         return this.cabeza;
     }
 
+    /**
+     * Devuelve la cantidad de modificaciones estructurales (inserciones, eliminaciones y reemplazos
+     * de nodos) hechas a través de los métodos de la lista. Los cambios hechos directamente sobre
+     * los nodos no se cuentan.
+     * @return Contador de modificaciones.
+     */
+    public int getModificaciones() {
+        return this.modificaciones;
+    }
+
     public void setCabeza(Nodo<T> cabeza) {
+        this.modificaciones++;
         this.cabeza = cabeza;
         if (this.cabeza == null) {
             this.cola = null;
@@ -61,6 +124,30 @@ public class ListaEnlazadaSimple<T> {
         }
     }
 
+    /**
+     * Reemplaza todo el contenido de la lista por una cadena de nodos ya enlazada.
+     * Operación de tiempo constante O(1): no recorre la cadena, por lo que el llamador
+     * garantiza que {@code cola} es el último nodo alcanzable desde {@code cabeza} y que
+     * la cadena tiene {@code tamanno} nodos. El siguiente de {@code cola} se fija en {@code null}.
+     *
+     * @param cabeza Primer nodo de la cadena, o {@code null} para dejar la lista vacía.
+     * @param cola Último nodo de la cadena.
+     * @param tamanno Cantidad de nodos de la cadena.
+     */
+    public void reemplazarNodos(Nodo<T> cabeza, Nodo<T> cola, int tamanno) {
+        this.modificaciones++;
+        if (cabeza == null) {
+            this.cabeza = null;
+            this.cola = null;
+            this.tamanno = 0;
+            return;
+        }
+        cola.setSiguiente(null);
+        this.cabeza = cabeza;
+        this.cola = cola;
+        this.tamanno = tamanno;
+    }
+
     /**
      * Inserta un elemento al principio de la lista (nueva cabeza).
      * Operación de tiempo constante O(1).
@@ -73,6 +160,7 @@ public class ListaEnlazadaSimple<T> {
             this.cola = this.cabeza;
         }
         this.tamanno++;
+        this.modificaciones++;
     }
 
     /**
@@ -90,6 +178,30 @@ public class ListaEnlazadaSimple<T> {
             this.cola = nuevoNodo;           
         }
         this.tamanno++;
+        this.modificaciones++;
+    }
+
+    /**
+     * Inserta un elemento inmediatamente después del nodo indicado.
+     * Operación de tiempo constante O(1).
+     *
+     * @param anterior Nodo de esta lista tras el cual insertar, o {@code null} para insertar al inicio.
+     * @param dato El dato a insertar.
+     * @return El nodo creado.
+     */
+    public Nodo<T> insertarDespues(Nodo<T> anterior, T dato) {
+        if (anterior == null) {
+            insertarAlInicio(dato);
+            return this.cabeza;
+        }
+        Nodo<T> nuevoNodo = new Nodo<>(dato, anterior.getSiguiente());
+        anterior.setSiguiente(nuevoNodo);
+        if (anterior == this.cola) {
+            this.cola = nuevoNodo;
+        }
+        this.tamanno++;
+        this.modificaciones++;
+        return nuevoNodo;
     }
 
     /**
@@ -106,6 +218,7 @@ public class ListaEnlazadaSimple<T> {
         T datoEliminado = this.cabeza.getDato();
         this.cabeza = this.cabeza.getSiguiente();
         this.tamanno--;
+        this.modificaciones++;
         if (estaVacia()) {
             this.cola = null; 
         }
@@ -140,15 +253,35 @@ public class ListaEnlazadaSimple<T> {
             return false;
         }
 
-        Nodo<T> nodoAEliminar = nodoAnterior.getSiguiente();
-        nodoAnterior.setSiguiente(nodoAEliminar.getSiguiente());
+        eliminarDespues(nodoAnterior);
+        return true;
+    }
+
+    /**
+     * Elimina el nodo que sigue al indicado.
+     * Operación de tiempo constante O(1).
+     *
+     * @param anterior Nodo de esta lista previo al que se elimina, o {@code null} para eliminar la cabeza.
+     * @return El dato del elemento eliminado.
+     * @throws NoSuchElementException si no hay nodo que eliminar.
+     */
+    public T eliminarDespues(Nodo<T> anterior) {
+        if (anterior == null) {
+            return eliminarAlInicio();
+        }
+        Nodo<T> nodoAEliminar = anterior.getSiguiente();
+        if (nodoAEliminar == null) {
+            throw new NoSuchElementException("El nodo indicado es el último de la lista.");
+        }
+        anterior.setSiguiente(nodoAEliminar.getSiguiente());
 
         if (nodoAEliminar == this.cola) {
-            this.cola = nodoAnterior;
+            this.cola = anterior;
         }
 
         this.tamanno--;
-        return true;
+        this.modificaciones++;
+        return nodoAEliminar.getDato();
     }
 
     public Nodo<T> buscarNodoAnterior(T datoBusqueda) {
@@ -165,4 +298,38 @@ public class ListaEnlazadaSimple<T> {
         }
         return null;
     }
+
+    /**
+     * Devuelve un iterador de falla rápida sobre los elementos, de la cabeza a la cola.
+     * @return Iterador que lanza {@link java.util.ConcurrentModificationException} si la lista se
+     *         modifica estructuralmente durante el recorrido.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RecorridoNodos.Iterador<>(this.cabeza, tamanno, RecorridoNodos.simple(), this::getModificaciones);
+    }
+
+    /**
+     * Devuelve un spliterator ORDERED y SIZED de falla rápida que divide la lista en lotes
+     * crecientes, apto para {@link #parallelStream()}.
+     * @return Spliterator sobre los elementos de la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RecorridoNodos.Spliterador<>(this.cabeza, tamanno, RecorridoNodos.simple(), this::getModificaciones);
+    }
+
+    /**
+     * @return Stream secuencial de los elementos, en orden.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return Stream paralelo de los elementos, en orden.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
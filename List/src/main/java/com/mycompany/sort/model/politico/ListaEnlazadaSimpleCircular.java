@@ -1,7 +1,11 @@
 package com.mycompany.sort.model.politico;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación de una lista enlazada simple y circular genérica.
@@ -14,7 +18,7 @@ import java.util.Objects;
  * @param <T> El tipo de elementos almacenados en la lista.
  */
 
-public class ListaEnlazadaSimpleCircular<T> {
+public class ListaEnlazadaSimpleCircular<T> implements Iterable<T> {
     
     /**
      * Referencia al último nodo de la lista circular.
@@ -26,6 +30,8 @@ public class ListaEnlazadaSimpleCircular<T> {
     private Nodo<T> ultimo;
     /** Número actual de elementos en la lista. */
     private int tamanno;
+    /** Cantidad de modificaciones estructurales; permite a los iteradores fallar rápido. */
+    private int modificaciones;
 
     /**
      * Construye una lista enlazada simple circular vacía.
@@ -35,6 +41,55 @@ public class ListaEnlazadaSimpleCircular<T> {
         this.tamanno = 0;
     }
 
+    /**
+     * Construye una copia de otra lista circular con nodos nuevos y los mismos datos en el mismo
+     * orden. Los nodos se enlazan en un único recorrido O(n) y el círculo se cierra una vez.
+     * @param otra Lista a copiar, no se modifica.
+     */
+    public ListaEnlazadaSimpleCircular(ListaEnlazadaSimpleCircular<T> otra) {
+        if (otra.estaVacia()) {
+            return;
+        }
+        Nodo<T> origen = otra.getCabeza();
+        Nodo<T> cabeza = new Nodo<>(origen.getDato());
+        Nodo<T> cola = cabeza;
+        for (int i = 1; i < otra.tamanno; i++) {
+            origen = origen.getSiguiente();
+            Nodo<T> nuevo = new Nodo<>(origen.getDato());
+            cola.setSiguiente(nuevo);
+            cola = nuevo;
+        }
+        cola.setSiguiente(cabeza);
+        this.ultimo = cola;
+        this.tamanno = otra.tamanno;
+    }
+
+    /**
+     * Construye una lista circular con los elementos del arreglo en el mismo orden, enlazando
+     * todos los nodos en un único ciclo O(n) sin rotar punteros.
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaSimpleCircular<T> fromArray(T[] datos) {
+        ListaEnlazadaSimpleCircular<T> lista = new ListaEnlazadaSimpleCircular<>();
+        ConstruccionEnBloque.Cadena<Nodo<T>> cadena = ConstruccionEnBloque.simples(datos, 0, datos.length);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
+    /**
+     * Igual que {@link #fromArray} pero, para arreglos grandes, construye tramos de la lista en
+     * paralelo en el pool común y luego los une.
+     * @param datos Elementos de la lista.
+     * @return Lista nueva.
+     */
+    public static <T> ListaEnlazadaSimpleCircular<T> fromArrayParalelo(T[] datos) {
+        ListaEnlazadaSimpleCircular<T> lista = new ListaEnlazadaSimpleCircular<>();
+        ConstruccionEnBloque.Cadena<Nodo<T>> cadena = ConstruccionEnBloque.simplesEnParalelo(datos);
+        lista.reemplazarNodos(cadena.cabeza, cadena.cola, datos.length);
+        return lista;
+    }
+
     /**
      * Devuelve el número de elementos en la lista.
      * @return El tamaño actual de la lista.
@@ -51,6 +106,16 @@ public class ListaEnlazadaSimpleCircular<T> {
         return tamanno == 0;
     }
 
+    /**
+     * Devuelve la cantidad de modificaciones estructurales (inserciones, eliminaciones y reemplazos
+     * de nodos) hechas a través de los métodos de la lista. Los cambios hechos directamente sobre
+     * los nodos no se cuentan.
+     * @return Contador de modificaciones.
+     */
+    public int getModificaciones() {
+        return modificaciones;
+    }
+
     /**
      * Obtiene el nodo cabeza de la lista circular (el primer elemento).
      * El acceso es O(1) a través de la referencia {@code ultimo}.
@@ -88,6 +153,7 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
     if (nuevoCabeza == null) {
         throw new IllegalArgumentException("El nuevo nodo cabeza no puede ser null.");
     }
+    this.modificaciones++;
 
     if (estaVacia()) {
         nuevoCabeza.setSiguiente(nuevoCabeza);
@@ -99,6 +165,28 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
         this.tamanno++;
     }
 }    
+
+    /**
+     * Reemplaza todo el contenido de la lista por una cadena de nodos ya enlazada y la cierra
+     * en círculo ({@code cola.siguiente = cabeza}). Operación de tiempo constante O(1): el
+     * llamador garantiza que {@code cola} es el último nodo de la cadena y que esta tiene
+     * {@code tamanno} nodos.
+     *
+     * @param cabeza Primer nodo de la cadena, o {@code null} para dejar la lista vacía.
+     * @param cola Último nodo de la cadena; pasa a ser {@code ultimo}.
+     * @param tamanno Cantidad de nodos de la cadena.
+     */
+    public void reemplazarNodos(Nodo<T> cabeza, Nodo<T> cola, int tamanno) {
+        this.modificaciones++;
+        if (cabeza == null) {
+            this.ultimo = null;
+            this.tamanno = 0;
+            return;
+        }
+        cola.setSiguiente(cabeza);
+        this.ultimo = cola;
+        this.tamanno = tamanno;
+    }
     
     /**
      * Inserta un elemento al principio de la lista (se convierte en la nueva cabeza).
@@ -115,6 +203,7 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
             this.ultimo.setSiguiente(nuevoNodo);
         }
         this.tamanno++;
+        this.modificaciones++;
     }
 
     /**
@@ -150,6 +239,7 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
             this.ultimo.setSiguiente(cabeza.getSiguiente());
         }
         this.tamanno--;
+        this.modificaciones++;
         return datoEliminado;
     }
 
@@ -183,6 +273,7 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
             this.ultimo = nodoAnterior;
         }
         this.tamanno--;
+        this.modificaciones++;
         return true;
     }
 
@@ -213,4 +304,37 @@ public void setCabeza(Nodo<T> nuevoCabeza) {
         return null; 
     }
 
+    /**
+     * Devuelve un iterador de falla rápida sobre los elementos, de la cabeza a la cola.
+     * @return Iterador que lanza {@link java.util.ConcurrentModificationException} si la lista se
+     *         modifica estructuralmente durante el recorrido.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new RecorridoNodos.Iterador<>(getCabeza(), tamanno, RecorridoNodos.simple(), this::getModificaciones);
+    }
+
+    /**
+     * Devuelve un spliterator ORDERED y SIZED de falla rápida que divide la lista en lotes
+     * crecientes, apto para {@link #parallelStream()}.
+     * @return Spliterator sobre los elementos de la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RecorridoNodos.Spliterador<>(getCabeza(), tamanno, RecorridoNodos.simple(), this::getModificaciones);
+    }
+
+    /**
+     * @return Stream secuencial de los elementos, en orden.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return Stream paralelo de los elementos, en orden.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
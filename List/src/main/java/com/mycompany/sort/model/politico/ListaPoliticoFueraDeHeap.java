@@ -0,0 +1,329 @@
+package com.mycompany.sort.model.politico;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Lista doblemente enlazada de políticos almacenada fuera del heap en un {@link MemorySegment}.
+ * <p>
+ * Cada nodo es un registro de {@value #BYTES_REGISTRO} bytes con el dinero, la fecha como día de
+ * época y los índices del nodo siguiente y anterior ({@value #NULO} cuando no hay). Los nodos se
+ * identifican por su índice de registro, de modo que ordenar la lista solo reescribe enlaces
+ * enteros y nunca mueve datos ni crea objetos. Con 10M–100M elementos la lista ocupa 160 MB–1,6 GB
+ * de memoria nativa, sin necesitar un heap de ese tamaño ni provocar pausas del recolector.
+ * </p>
+ * <p>
+ * La capacidad se fija al construir la lista. La memoria pertenece a un {@link Arena}: si la lista
+ * lo crea (constructores sin arena) se libera con {@link #close()}; si se recibe uno, su dueño
+ * decide cuándo liberarlo. Con los constructores sin arena la lista solo puede usarse desde el
+ * hilo que la creó.
+ * </p>
+ */
+public class ListaPoliticoFueraDeHeap implements AutoCloseable {
+
+    /** Índice que representa la ausencia de nodo. */
+    public static final int NULO = -1;
+
+    /** Tamaño en bytes de cada registro. */
+    public static final int BYTES_REGISTRO = 16;
+
+    private static final long DESP_DINERO = 0;
+    private static final long DESP_EPOCH_DAY = 4;
+    private static final long DESP_SIGUIENTE = 8;
+    private static final long DESP_ANTERIOR = 12;
+
+    private final Arena arena;
+    private final boolean arenaPropia;
+    private final MemorySegment registros;
+    private final int capacidad;
+    /** Cantidad de registros ocupados; los nuevos nodos se toman de esta posición. */
+    private int usados;
+    private int cabeza = NULO;
+    private int cola = NULO;
+    private int tamanno;
+
+    /**
+     * Construye una lista vacía con su propia arena confinada al hilo actual.
+     *
+     * @param capacidad Cantidad máxima de elementos.
+     */
+    public ListaPoliticoFueraDeHeap(int capacidad) {
+        this(Arena.ofConfined(), true, capacidad);
+    }
+
+    /**
+     * Construye una lista vacía cuya memoria se reserva en la arena indicada.
+     * {@link #close()} no cierra esa arena.
+     *
+     * @param arena     Arena de la que se reserva la memoria.
+     * @param capacidad Cantidad máxima de elementos.
+     */
+    public ListaPoliticoFueraDeHeap(Arena arena, int capacidad) {
+        this(arena, false, capacidad);
+    }
+
+    private ListaPoliticoFueraDeHeap(Arena arena, boolean arenaPropia, int capacidad) {
+        Objects.requireNonNull(arena, "La arena no puede ser null.");
+        if (capacidad < 0) {
+            if (arenaPropia) {
+                arena.close();
+            }
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacidad);
+        }
+        this.arena = arena;
+        this.arenaPropia = arenaPropia;
+        this.capacidad = capacidad;
+        this.registros = arena.allocate(Math.max(1L, (long) capacidad * BYTES_REGISTRO), Long.BYTES);
+    }
+
+    /**
+     * Construye la lista con los datos de un conjunto por columnas, en el mismo orden y sin crear
+     * objetos {@link Politico}. Usa su propia arena confinada al hilo actual.
+     *
+     * @param columnas Datos a copiar.
+     * @return Lista llena con capacidad igual al tamaño del conjunto.
+     */
+    public static ListaPoliticoFueraDeHeap desde(ColumnasPolitico columnas) {
+        return llenar(new ListaPoliticoFueraDeHeap(columnas.getTamanio()), columnas);
+    }
+
+    /**
+     * Igual que {@link #desde(ColumnasPolitico)} pero reservando la memoria en la arena indicada.
+     *
+     * @param columnas Datos a copiar.
+     * @param arena    Arena de la que se reserva la memoria.
+     * @return Lista llena con capacidad igual al tamaño del conjunto.
+     */
+    public static ListaPoliticoFueraDeHeap desde(ColumnasPolitico columnas, Arena arena) {
+        return llenar(new ListaPoliticoFueraDeHeap(arena, columnas.getTamanio()), columnas);
+    }
+
+    private static ListaPoliticoFueraDeHeap llenar(ListaPoliticoFueraDeHeap lista, ColumnasPolitico columnas) {
+        int[] dinero = columnas.getColumnaDinero();
+        int[] epochDay = columnas.getColumnaEpochDay();
+        for (int i = 0; i < dinero.length; i++) {
+            lista.insertarAlFinal(dinero[i], epochDay[i]);
+        }
+        return lista;
+    }
+
+    /**
+     * Copia la lista en una arena propia confinada al hilo actual. Los registros se copian en
+     * bloque, así que la copia conserva los mismos índices de nodo y enlaces.
+     *
+     * @return Lista nueva independiente de esta.
+     */
+    public ListaPoliticoFueraDeHeap copiar() {
+        return copiarEn(new ListaPoliticoFueraDeHeap(capacidad));
+    }
+
+    /**
+     * Igual que {@link #copiar()} pero reservando la memoria en la arena indicada.
+     *
+     * @param arena Arena de la que se reserva la memoria de la copia.
+     * @return Lista nueva independiente de esta.
+     */
+    public ListaPoliticoFueraDeHeap copiar(Arena arena) {
+        return copiarEn(new ListaPoliticoFueraDeHeap(arena, capacidad));
+    }
+
+    private ListaPoliticoFueraDeHeap copiarEn(ListaPoliticoFueraDeHeap copia) {
+        MemorySegment.copy(registros, 0, copia.registros, 0, (long) usados * BYTES_REGISTRO);
+        copia.usados = usados;
+        copia.cabeza = cabeza;
+        copia.cola = cola;
+        copia.tamanno = tamanno;
+        return copia;
+    }
+
+    public boolean estaVacia() {
+        return tamanno == 0;
+    }
+
+    public int getTamanno() {
+        return tamanno;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * @return Índice del primer nodo, o {@link #NULO} si la lista está vacía.
+     */
+    public int getCabeza() {
+        return cabeza;
+    }
+
+    /**
+     * @return Índice del último nodo, o {@link #NULO} si la lista está vacía.
+     */
+    public int getCola() {
+        return cola;
+    }
+
+    public int getDinero(int nodo) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_DINERO);
+    }
+
+    public int getEpochDay(int nodo) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_EPOCH_DAY);
+    }
+
+    /**
+     * @param nodo Índice de un nodo de la lista.
+     * @return Índice del nodo siguiente, o {@link #NULO} si es el último.
+     */
+    public int getSiguiente(int nodo) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_SIGUIENTE);
+    }
+
+    /**
+     * @param nodo Índice de un nodo de la lista.
+     * @return Índice del nodo anterior, o {@link #NULO} si es el primero.
+     */
+    public int getAnterior(int nodo) {
+        return registros.get(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_ANTERIOR);
+    }
+
+    /**
+     * Cambia el siguiente de un nodo. ¡Precaución! No actualiza el anterior del otro nodo.
+     */
+    public void setSiguiente(int nodo, int siguiente) {
+        registros.set(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_SIGUIENTE, siguiente);
+    }
+
+    /**
+     * Cambia el anterior de un nodo. ¡Precaución! No actualiza el siguiente del otro nodo.
+     */
+    public void setAnterior(int nodo, int anterior) {
+        registros.set(ValueLayout.JAVA_INT, desplazamiento(nodo) + DESP_ANTERIOR, anterior);
+    }
+
+    /**
+     * Reemplaza los extremos de la lista tras reenlazar sus nodos.
+     * Operación de tiempo constante O(1): el llamador garantiza que la cadena de siguientes desde
+     * {@code cabeza} termina en {@code cola}, que los anteriores son coherentes y que contiene
+     * todos los nodos de la lista.
+     *
+     * @param cabeza Índice del primer nodo.
+     * @param cola   Índice del último nodo.
+     */
+    public void reemplazarExtremos(int cabeza, int cola) {
+        this.cabeza = cabeza;
+        this.cola = cola;
+    }
+
+    /**
+     * Compara el dinero de dos nodos, con el mismo criterio que {@link Politico#compareTo}.
+     *
+     * @return Negativo, cero o positivo según el dinero de {@code a} sea menor, igual o mayor.
+     */
+    public int comparar(int a, int b) {
+        return Integer.compare(getDinero(a), getDinero(b));
+    }
+
+    /**
+     * Inserta un político al final de la lista.
+     *
+     * @param dinero   Dinero del político.
+     * @param epochDay Fecha del político como día de época.
+     * @throws IllegalStateException si la lista alcanzó su capacidad.
+     */
+    public void insertarAlFinal(int dinero, int epochDay) {
+        int nodo = nuevoNodo(dinero, epochDay);
+        setAnterior(nodo, cola);
+        if (cola == NULO) {
+            cabeza = nodo;
+        } else {
+            setSiguiente(cola, nodo);
+        }
+        cola = nodo;
+        tamanno++;
+    }
+
+    public void insertarAlFinal(Politico politico) {
+        insertarAlFinal(politico.getDinero(), (int) politico.getFecha().toEpochDay());
+    }
+
+    /**
+     * Inserta un político al principio de la lista.
+     *
+     * @param dinero   Dinero del político.
+     * @param epochDay Fecha del político como día de época.
+     * @throws IllegalStateException si la lista alcanzó su capacidad.
+     */
+    public void insertarAlInicio(int dinero, int epochDay) {
+        int nodo = nuevoNodo(dinero, epochDay);
+        setSiguiente(nodo, cabeza);
+        if (cabeza == NULO) {
+            cola = nodo;
+        } else {
+            setAnterior(cabeza, nodo);
+        }
+        cabeza = nodo;
+        tamanno++;
+    }
+
+    public void insertarAlInicio(Politico politico) {
+        insertarAlInicio(politico.getDinero(), (int) politico.getFecha().toEpochDay());
+    }
+
+    /**
+     * Crea el político almacenado en un nodo.
+     *
+     * @param nodo Índice de un nodo de la lista.
+     * @return Un nuevo {@link Politico} con los datos del nodo.
+     */
+    public Politico obtener(int nodo) {
+        return new Politico(getDinero(nodo), LocalDate.ofEpochDay(getEpochDay(nodo)));
+    }
+
+    /**
+     * Copia la lista a columnas en el orden de sus enlaces.
+     *
+     * @return Conjunto por columnas con los datos de la lista.
+     */
+    public ColumnasPolitico aColumnas() {
+        int[] dinero = new int[tamanno];
+        int[] epochDay = new int[tamanno];
+        int i = 0;
+        for (int nodo = cabeza; nodo != NULO; nodo = getSiguiente(nodo)) {
+            dinero[i] = getDinero(nodo);
+            epochDay[i] = getEpochDay(nodo);
+            i++;
+        }
+        return new ColumnasPolitico(dinero, epochDay);
+    }
+
+    /**
+     * Libera la memoria nativa si la arena pertenece a la lista. Tras cerrarla, la lista no
+     * puede usarse.
+     */
+    @Override
+    public void close() {
+        if (arenaPropia) {
+            arena.close();
+        }
+    }
+
+    private int nuevoNodo(int dinero, int epochDay) {
+        if (usados == capacidad) {
+            throw new IllegalStateException("La lista alcanzó su capacidad de " + capacidad + " elementos.");
+        }
+        int nodo = usados++;
+        long base = desplazamiento(nodo);
+        registros.set(ValueLayout.JAVA_INT, base + DESP_DINERO, dinero);
+        registros.set(ValueLayout.JAVA_INT, base + DESP_EPOCH_DAY, epochDay);
+        registros.set(ValueLayout.JAVA_INT, base + DESP_SIGUIENTE, NULO);
+        registros.set(ValueLayout.JAVA_INT, base + DESP_ANTERIOR, NULO);
+        return nodo;
+    }
+
+    private static long desplazamiento(int nodo) {
+        return (long) nodo * BYTES_REGISTRO;
+    }
+}
@@ -0,0 +1,153 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.Arrays;
+
+/**
+ * Nodo de una lista enlazada desenrollada ({@link ListaEnlazadaDesenrollada}).
+ * En lugar de un único dato almacena hasta {@code capacidad} elementos contiguos en un arreglo,
+ * de modo que recorrer la lista salta de nodo en nodo una vez cada {@code capacidad} elementos
+ * y el resto del recorrido es secuencial en memoria.
+ * Los elementos válidos ocupan las posiciones {@code [0, cantidad)}.
+ *
+ * @param <T> El tipo de los datos almacenados en el nodo.
+ */
+public class NodoDesenrollado<T> {
+
+    /** Elementos del nodo; solo las primeras {@code cantidad} posiciones son válidas. */
+    private final Object[] elementos;
+    /** Número de elementos válidos en el nodo. */
+    private int cantidad;
+    /** Referencia al siguiente nodo en la lista, o {@code null} si este es el último. */
+    private NodoDesenrollado<T> siguiente;
+
+    /**
+     * Construye un nodo vacío con la capacidad indicada.
+     *
+     * @param capacidad Cantidad máxima de elementos del nodo (mayor que 0).
+     */
+    public NodoDesenrollado(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad del nodo debe ser mayor que 0");
+        }
+        this.elementos = new Object[capacidad];
+    }
+
+    /**
+     * Obtiene el elemento en la posición indicada dentro del nodo.
+     *
+     * @param indice Posición en {@code [0, cantidad)}.
+     * @return El dato almacenado.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int indice) {
+        return (T) elementos[indice];
+    }
+
+    /**
+     * Reemplaza el elemento en la posición indicada dentro del nodo.
+     *
+     * @param indice Posición en {@code [0, cantidad)}.
+     * @param dato El nuevo dato.
+     */
+    public void set(int indice, T dato) {
+        elementos[indice] = dato;
+    }
+
+    /**
+     * Añade un elemento al final del nodo.
+     *
+     * @param dato El dato a añadir.
+     * @throws IllegalStateException si el nodo está lleno.
+     */
+    public void agregar(T dato) {
+        if (estaLleno()) {
+            throw new IllegalStateException("El nodo está lleno");
+        }
+        elementos[cantidad++] = dato;
+    }
+
+    /**
+     * Inserta un elemento en la posición indicada desplazando los siguientes una posición.
+     *
+     * @param indice Posición en {@code [0, cantidad]}.
+     * @param dato El dato a insertar.
+     * @throws IllegalStateException si el nodo está lleno.
+     */
+    public void insertar(int indice, T dato) {
+        if (estaLleno()) {
+            throw new IllegalStateException("El nodo está lleno");
+        }
+        System.arraycopy(elementos, indice, elementos, indice + 1, cantidad - indice);
+        elementos[indice] = dato;
+        cantidad++;
+    }
+
+    /**
+     * Quita el elemento en la posición indicada desplazando los siguientes una posición.
+     *
+     * @param indice Posición en {@code [0, cantidad)}.
+     * @return El dato quitado.
+     */
+    public T quitar(int indice) {
+        T dato = get(indice);
+        System.arraycopy(elementos, indice + 1, elementos, indice, cantidad - indice - 1);
+        elementos[--cantidad] = null;
+        return dato;
+    }
+
+    /**
+     * Mueve al final de este nodo todos los elementos de {@code otro}, que queda vacío.
+     *
+     * @param otro Nodo cuyos elementos se absorben; deben caber en este nodo.
+     */
+    void absorber(NodoDesenrollado<T> otro) {
+        System.arraycopy(otro.elementos, 0, elementos, cantidad, otro.cantidad);
+        cantidad += otro.cantidad;
+        otro.vaciar();
+    }
+
+    /**
+     * Deja el nodo sin elementos y sin siguiente, listo para reutilizarse.
+     */
+    public void vaciar() {
+        Arrays.fill(elementos, 0, cantidad, null);
+        cantidad = 0;
+        siguiente = null;
+    }
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    public int getCapacidad() {
+        return elementos.length;
+    }
+
+    public boolean estaLleno() {
+        return cantidad == elementos.length;
+    }
+
+    /**
+     * Obtiene la referencia al siguiente nodo en la lista.
+     * @return El {@link NodoDesenrollado} siguiente, o {@code null} si no hay siguiente.
+     */
+    public NodoDesenrollado<T> getSiguiente() {
+        return siguiente;
+    }
+
+    /**
+     * Establece o actualiza la referencia al siguiente nodo.
+     * @param siguiente El nodo que será el nuevo siguiente.
+     */
+    public void setSiguiente(NodoDesenrollado<T> siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    /**
+     * Devuelve los elementos válidos del nodo entre corchetes.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(elementos, cantidad));
+    }
+}
@@ -0,0 +1,190 @@
+package com.mycompany.sort.model.politico;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Iteradores y spliterators compartidos por {@link ListaEnlazadaSimple}, {@link ListaEnlazadaDoble}
+ * y {@link ListaEnlazadaSimpleCircular}.
+ * <p>
+ * Los recorridos avanzan una cantidad fija de nodos (el tamaño de la lista al crearlos), así que
+ * funcionan igual con listas terminadas en {@code null} y con listas circulares. Son de falla
+ * rápida: si la lista recibe una modificación estructural durante el recorrido, lanzan
+ * {@link ConcurrentModificationException}.
+ * </p>
+ */
+final class RecorridoNodos {
+
+    /** Incremento del tamaño de lote en cada {@link Spliterador#trySplit()}. */
+    static final int LOTE_INICIAL = 1 << 10;
+    /** Tamaño máximo de un lote de {@link Spliterador#trySplit()}. */
+    static final int LOTE_MAXIMO = 1 << 25;
+
+    private RecorridoNodos() {
+    }
+
+    /**
+     * Acceso al dato y al siguiente de un tipo de nodo.
+     */
+    interface Enlace<N, T> {
+        N siguiente(N nodo);
+
+        T dato(N nodo);
+    }
+
+    static <T> Enlace<Nodo<T>, T> simple() {
+        return new Enlace<>() {
+            @Override
+            public Nodo<T> siguiente(Nodo<T> nodo) {
+                return nodo.getSiguiente();
+            }
+
+            @Override
+            public T dato(Nodo<T> nodo) {
+                return nodo.getDato();
+            }
+        };
+    }
+
+    static <T> Enlace<NodoDoble<T>, T> doble() {
+        return new Enlace<>() {
+            @Override
+            public NodoDoble<T> siguiente(NodoDoble<T> nodo) {
+                return nodo.getSiguiente();
+            }
+
+            @Override
+            public T dato(NodoDoble<T> nodo) {
+                return nodo.getDato();
+            }
+        };
+    }
+
+    /**
+     * Iterador de falla rápida sobre {@code restantes} nodos a partir de {@code actual}.
+     */
+    static final class Iterador<N, T> implements Iterator<T> {
+        private final Enlace<N, T> enlace;
+        private final IntSupplier modificaciones;
+        private final int esperadas;
+        private N actual;
+        private int restantes;
+
+        Iterador(N cabeza, int tamanno, Enlace<N, T> enlace, IntSupplier modificaciones) {
+            this.enlace = enlace;
+            this.modificaciones = modificaciones;
+            this.esperadas = modificaciones.getAsInt();
+            this.actual = cabeza;
+            this.restantes = tamanno;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return restantes > 0;
+        }
+
+        @Override
+        public T next() {
+            if (modificaciones.getAsInt() != esperadas) {
+                throw new ConcurrentModificationException();
+            }
+            if (restantes <= 0) {
+                throw new NoSuchElementException();
+            }
+            T dato = enlace.dato(actual);
+            actual = enlace.siguiente(actual);
+            restantes--;
+            return dato;
+        }
+    }
+
+    /**
+     * Spliterator ORDERED, SIZED y SUBSIZED de falla rápida. Como una lista enlazada no se puede
+     * partir por la mitad sin recorrerla, {@link #trySplit()} copia a un arreglo un lote de
+     * elementos del principio, un lote más grande en cada división (como {@code LinkedList}), y ese
+     * arreglo sí se divide en partes iguales entre los hilos del stream paralelo.
+     */
+    static final class Spliterador<N, T> implements Spliterator<T> {
+        private final Enlace<N, T> enlace;
+        private final IntSupplier modificaciones;
+        private final int esperadas;
+        private N actual;
+        private int restantes;
+        private int lote;
+
+        Spliterador(N cabeza, int tamanno, Enlace<N, T> enlace, IntSupplier modificaciones) {
+            this.enlace = enlace;
+            this.modificaciones = modificaciones;
+            this.esperadas = modificaciones.getAsInt();
+            this.actual = cabeza;
+            this.restantes = tamanno;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> accion) {
+            if (restantes <= 0) {
+                return false;
+            }
+            T dato = enlace.dato(actual);
+            actual = enlace.siguiente(actual);
+            restantes--;
+            accion.accept(dato);
+            verificar();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> accion) {
+            N nodo = actual;
+            int n = restantes;
+            actual = null;
+            restantes = 0;
+            for (int i = 0; i < n; i++) {
+                T dato = enlace.dato(nodo);
+                nodo = enlace.siguiente(nodo);
+                accion.accept(dato);
+            }
+            verificar();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (restantes <= 1) {
+                return null;
+            }
+            int n = Math.min(Math.min(lote + LOTE_INICIAL, LOTE_MAXIMO), restantes);
+            Object[] elementos = new Object[n];
+            N nodo = actual;
+            for (int i = 0; i < n; i++) {
+                elementos[i] = enlace.dato(nodo);
+                nodo = enlace.siguiente(nodo);
+            }
+            actual = nodo;
+            restantes -= n;
+            lote = n;
+            verificar();
+            return Spliterators.spliterator(elementos, 0, n, characteristics());
+        }
+
+        @Override
+        public long estimateSize() {
+            return restantes;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void verificar() {
+            if (modificaciones.getAsInt() != esperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
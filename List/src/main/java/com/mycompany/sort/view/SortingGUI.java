@@ -10,6 +10,7 @@ import java.awt.event.ActionEvent;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class SortingGUI extends JFrame {
     private static final String TITULO = "Simulación de Ordenamiento";
@@ -17,7 +18,13 @@ public class SortingGUI extends JFrame {
 
     private final SortingController controller;
     private JTextField inputCantidad;
+    private JSpinner spinnerHilos;
     private JTextArea areaResultados;
+    private JButton btnIniciar;
+    private JButton btnCancelar;
+    private JButton btnExportarCSV;
+    private JButton btnExportarPDF;
+    private SimulacionWorker simulacionActual;
 
     public SortingGUI(SortingController controller) {
         this.controller = controller;
@@ -44,6 +51,7 @@ public class SortingGUI extends JFrame {
         tabbedPane.addTab("Lista Simple", crearPanelLista("simple"));
         tabbedPane.addTab("Lista Doble", crearPanelLista("doble"));
         tabbedPane.addTab("Lista Circular", crearPanelLista("circular"));
+        tabbedPane.addTab("Lista Desenrollada", crearPanelLista("desenrollada"));
 
         // Área de resultados
         areaResultados = new JTextArea();
@@ -70,21 +78,32 @@ public class SortingGUI extends JFrame {
         inputCantidad.setToolTipText("Ingrese la cantidad de elementos a ordenar");
         panel.add(inputCantidad);
 
-        JButton btnIniciar = new JButton("Iniciar Simulación");
+        panel.add(new JLabel("Hilos:"));
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        spinnerHilos = new JSpinner(new SpinnerNumberModel(1, 1, nucleos, 1));
+        spinnerHilos.setToolTipText("Cantidad de estrategias que se ejecutan en paralelo");
+        panel.add(spinnerHilos);
+
+        btnIniciar = new JButton("Iniciar Simulación");
         btnIniciar.addActionListener(this::ejecutarSimulacion);
         panel.add(btnIniciar);
 
+        btnCancelar = new JButton("Cancelar");
+        btnCancelar.setEnabled(false);
+        btnCancelar.addActionListener(e -> cancelarSimulacion());
+        panel.add(btnCancelar);
+
         return panel;
     }
 
     private JPanel crearPanelControl() {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
 
-        JButton btnExportarCSV = new JButton("Exportar a CSV");
+        btnExportarCSV = new JButton("Exportar a CSV");
         btnExportarCSV.addActionListener(this::exportarCSV);
         panel.add(btnExportarCSV);
 
-        JButton btnExportarPDF = new JButton("Exportar a PDF");
+        btnExportarPDF = new JButton("Exportar a PDF");
         btnExportarPDF.addActionListener(this::exportarPDF);
         panel.add(btnExportarPDF);
 
@@ -223,24 +242,89 @@ public class SortingGUI extends JFrame {
         areaResultados.setText("");
     }
 
+    /**
+     * Lanza la simulación fuera del hilo de eventos de Swing. Los resultados se muestran a medida
+     * que cada estrategia termina.
+     */
     private void ejecutarYMostrarResultados(int cantidad) {
-        controller.ejecutarSimulacionCompleta(cantidad);
-        controller.cargarDatosParaManipulacion(controller.crearArregloOrdenado(cantidad));
-        mostrarResultados();
+        mostrarEncabezado();
+        setSimulacionEnCurso(true);
+        simulacionActual = new SimulacionWorker(cantidad, (Integer) spinnerHilos.getValue());
+        simulacionActual.execute();
+    }
+
+    private void cancelarSimulacion() {
+        if (simulacionActual != null) {
+            simulacionActual.cancel(true);
+        }
+    }
+
+    private void setSimulacionEnCurso(boolean enCurso) {
+        btnIniciar.setEnabled(!enCurso);
+        btnCancelar.setEnabled(enCurso);
+        btnExportarCSV.setEnabled(!enCurso);
+        btnExportarPDF.setEnabled(!enCurso);
+    }
+
+    private void mostrarEncabezado() {
+        areaResultados.append(String.format("%-12s %-35s %-12s %-12s %-10s%n",
+                "TIPO", "ESTRATEGIA", "TIEMPO (ms)", "ITERACIONES", "MEMORIA (KB)"));
+        areaResultados.append("-------------------------------------------------------------------------------------\n");
+    }
+
+    private void mostrarResultado(ResultadoOrdenamiento r) {
+        areaResultados.append(String.format("%-12s %-35s %-12.3f %-12d %-10d%n",
+                r.getType(),
+                r.getStrategy(),
+                r.getTimeElapsedMillis(),
+                r.getIterations(),
+                r.getBytesAsignados() / 1024));
     }
 
-    private void mostrarResultados() {
-        areaResultados.append(String.format("%-12s %-35s %-12s %-12s%n",
-                "TIPO", "ESTRATEGIA", "TIEMPO (ms)", "ITERACIONES"));
-        areaResultados.append("--------------------------------------------------------------------------\n");
-
-        List<ResultadoOrdenamiento> resultados = controller.getResultados();
-        for (ResultadoOrdenamiento r : resultados) {
-            areaResultados.append(String.format("%-12s %-35s %-12.3f %-12d%n",
-                    r.getType(),
-                    r.getStrategy(),
-                    r.getTimeElapsedMillis(),
-                    r.getIterations()));
+    /**
+     * Ejecuta la simulación en segundo plano y publica cada {@link ResultadoOrdenamiento}
+     * en el área de resultados en cuanto su estrategia termina.
+     * Al cancelarse interrumpe el hilo de trabajo, lo que detiene la estrategia en curso.
+     * Los datos para manipulación se generan en segundo plano, pero las listas del controlador
+     * se reemplazan en {@link #done()}, en el EDT, igual que las modifican los botones de cada
+     * pestaña.
+     */
+    private class SimulacionWorker extends SwingWorker<Politico[], ResultadoOrdenamiento> {
+        private final int cantidad;
+        private final int hilos;
+
+        SimulacionWorker(int cantidad, int hilos) {
+            this.cantidad = cantidad;
+            this.hilos = hilos;
+        }
+
+        @Override
+        protected Politico[] doInBackground() {
+            controller.ejecutarSimulacionCompleta(cantidad, hilos, resultado -> publish(resultado));
+            return controller.crearArregloOrdenado(cantidad);
+        }
+
+        @Override
+        protected void process(List<ResultadoOrdenamiento> chunks) {
+            for (ResultadoOrdenamiento r : chunks) {
+                mostrarResultado(r);
+            }
+        }
+
+        @Override
+        protected void done() {
+            setSimulacionEnCurso(false);
+            if (isCancelled()) {
+                areaResultados.append("Simulación cancelada.\n");
+                return;
+            }
+            try {
+                controller.cargarDatosParaManipulacion(get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                mostrarError("Error durante la simulación: " + ex.getCause().getMessage());
+            }
         }
     }
 